@@ -0,0 +1,64 @@
+package com.inghub.loanapi.dto.mapper;
+
+import com.inghub.loanapi.dto.LoanResponse;
+import com.inghub.loanapi.entity.Customer;
+import com.inghub.loanapi.entity.Loan;
+import com.inghub.loanapi.entity.LoanInstallment;
+import com.inghub.loanapi.enums.InstallmentStatus;
+import com.inghub.loanapi.enums.LoanStatus;
+import com.inghub.loanapi.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link LoanMapper#toLoanResponse(Loan)} for fully populated loans.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanMapperBenchmark {
+
+    @Param({"6", "9", "12", "24"})
+    private int numberOfInstallments;
+
+    private final LoanMapper loanMapper = LoanMapper.INSTANCE;
+    private Loan loan;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Customer customer = new Customer();
+        customer.setId(1L);
+
+        loan = new Loan();
+        loan.setId(1L);
+        loan.setCustomer(customer);
+        loan.setLoanAmount(Money.ofCents(2_500_000L));
+        loan.setInterestRate(new BigDecimal("0.25"));
+        loan.setTotalAmount(Money.ofCents(3_125_000L));
+        loan.setNumberOfInstallments(numberOfInstallments);
+        loan.setIsPaid(false);
+        loan.setStatus(LoanStatus.ACTIVE);
+
+        Money installmentAmount = loan.getTotalAmount().divide(numberOfInstallments);
+        LocalDate firstDueDate = LocalDate.now().plusMonths(1).withDayOfMonth(1);
+        List<LoanInstallment> installments = new ArrayList<>();
+        for (int i = 0; i < numberOfInstallments; i++) {
+            installments.add(new LoanInstallment((long) i + 1, loan, i + 1, installmentAmount, null,
+                    firstDueDate.plusMonths(i), null, false, InstallmentStatus.PENDING));
+        }
+        loan.setInstallments(installments);
+    }
+
+    @Benchmark
+    public LoanResponse toLoanResponse() {
+        return loanMapper.toLoanResponse(loan);
+    }
+}
@@ -0,0 +1,82 @@
+package com.inghub.loanapi.security;
+
+import com.inghub.loanapi.entity.Role;
+import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.enums.RoleEnum;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call authorization of an owned-customer endpoint: the compiled {@link OwnershipAuthorizationManager}
+ * against the {@code @PreAuthorize} SpEL expression it replaced, for an admin and for a customer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OwnershipAuthorizationBenchmark {
+
+    private OwnershipAuthorizationManager compiled;
+    private PreAuthorizeAuthorizationManager spel;
+    private SimpleMethodInvocation compiledInvocation;
+    private SimpleMethodInvocation spelInvocation;
+    private Authentication admin;
+    private Authentication customer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        compiled = new OwnershipAuthorizationManager(
+                new OwnershipResolver(loanId -> Optional.of(1L), userId -> Optional.of(1L), 100, 60_000), null);
+        spel = new PreAuthorizeAuthorizationManager();
+        Endpoints endpoints = new Endpoints();
+        compiledInvocation = new SimpleMethodInvocation(endpoints, Endpoints.class.getMethod("compiled", Long.class), 1L);
+        spelInvocation = new SimpleMethodInvocation(endpoints, Endpoints.class.getMethod("spel", Long.class), 1L);
+        admin = authentication(1, RoleEnum.ADMIN);
+        customer = authentication(2, RoleEnum.CUSTOMER);
+    }
+
+    @Benchmark
+    public boolean compiledAdmin() {
+        return compiled.check(() -> admin, compiledInvocation).isGranted();
+    }
+
+    @Benchmark
+    public boolean compiledCustomer() {
+        return compiled.check(() -> customer, compiledInvocation).isGranted();
+    }
+
+    @Benchmark
+    public boolean spelAdmin() {
+        return spel.check(() -> admin, spelInvocation).isGranted();
+    }
+
+    @Benchmark
+    public boolean spelCustomer() {
+        return spel.check(() -> customer, spelInvocation).isGranted();
+    }
+
+    private static Authentication authentication(int userId, RoleEnum role) {
+        User user = new User().setId(userId).setEmail(userId + "@a.com").setRole(new Role().setName(role));
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    public static class Endpoints {
+
+        @AdminOrOwner(resource = OwnedResource.CUSTOMER, parameter = "customerId")
+        public void compiled(Long customerId) {
+        }
+
+        @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and #customerId == authentication.principal.id)")
+        public void spel(Long customerId) {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.inghub.loanapi.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token validation in {@link JwtService}: the single parse with the cached parser
+ * against the previous path, which rebuilt the key and parser and parsed the token three times.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_KEY = "3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007b";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtService(SECRET_KEY, TimeUnit.HOURS.toMillis(24));
+        userDetails = User.builder().username("a@a.com").password("password").roles("ADMIN").build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        Claims claims = jwtService.parseVerifiedClaims(token);
+        return claims.getSubject() != null && jwtService.isTokenValid(claims, userDetails);
+    }
+
+    @Benchmark
+    public boolean previousTripleParse() {
+        String username = parseWithFreshParser(token).getSubject();
+        return username != null
+                && parseWithFreshParser(token).getSubject().equals(userDetails.getUsername())
+                && !parseWithFreshParser(token).getExpiration().before(new Date());
+    }
+
+    private static Claims parseWithFreshParser(String token) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+}
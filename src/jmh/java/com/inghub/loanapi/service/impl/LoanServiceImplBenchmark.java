@@ -0,0 +1,104 @@
+package com.inghub.loanapi.service.impl;
+
+import com.inghub.loanapi.dto.mapper.LoanMapper;
+import com.inghub.loanapi.entity.Customer;
+import com.inghub.loanapi.entity.Loan;
+import com.inghub.loanapi.entity.LoanInstallment;
+import com.inghub.loanapi.enums.InstallmentStatus;
+import com.inghub.loanapi.enums.LoanStatus;
+import com.inghub.loanapi.money.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the schedule and payment calculations in {@link LoanServiceImpl}.
+ * The repositories are never touched by these paths, so the service is built without them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanServiceImplBenchmark {
+
+    @Param({"6", "9", "12", "24"})
+    private int numberOfInstallments;
+
+    private final Money amount = Money.ofCents(2_500_000L);
+    private final BigDecimal interestRate = new BigDecimal("0.25");
+
+    private LoanServiceImpl loanService;
+    private Loan loan;
+    private Money totalAmount;
+    private List<LoanInstallment> installments;
+    private List<LoanInstallment> payableInstallments;
+    private Money payment;
+    private LocalDate paymentDate;
+    private LoanInstallment earlyInstallment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        loanService = new LoanServiceImpl(null, null, LoanMapper.INSTANCE, null, null, new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+
+        Customer customer = new Customer();
+        customer.setId(1L);
+        loan = new Loan();
+        loan.setId(1L);
+        loan.setCustomer(customer);
+        loan.setStatus(LoanStatus.ACTIVE);
+        loan.setIsPaid(false);
+
+        totalAmount = loanService.calculateTotalAmount(amount, interestRate);
+        installments = loanService.createInstallments(totalAmount, numberOfInstallments, loan);
+        for (int i = 0; i < installments.size(); i++) {
+            installments.get(i).setId(i + 1L);
+        }
+        loan.setInstallments(installments);
+
+        // Enough to settle every installment inside the three month payment window,
+        // which is all the payable-installment query hands to processInstallments.
+        payment = totalAmount;
+        paymentDate = LocalDate.now(ZoneId.of("Europe/Istanbul"));
+        payableInstallments = installments.stream()
+                .filter(installment -> !installment.getDueDate().isAfter(paymentDate.plusMonths(3)))
+                .toList();
+        earlyInstallment = installments.get(0);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetInstallments() {
+        for (LoanInstallment installment : installments) {
+            installment.setIsPaid(false);
+            installment.setPaidAmount(null);
+            installment.setStatus(InstallmentStatus.PENDING);
+        }
+    }
+
+    @Benchmark
+    public Money calculateTotalAmount() {
+        return loanService.calculateTotalAmount(amount, interestRate);
+    }
+
+    @Benchmark
+    public List<LoanInstallment> createInstallments() {
+        return loanService.createInstallments(totalAmount, numberOfInstallments, loan);
+    }
+
+    @Benchmark
+    public List<LoanInstallment> processInstallments() {
+        return loanService.processInstallments(payableInstallments, payment, paymentDate);
+    }
+
+    @Benchmark
+    public Money calculatePaidAmount() {
+        return loanService.calculatePaidAmount(earlyInstallment, paymentDate);
+    }
+}
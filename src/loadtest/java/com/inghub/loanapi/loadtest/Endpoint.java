@@ -0,0 +1,22 @@
+package com.inghub.loanapi.loadtest;
+
+/**
+ * Operations the load generator can issue; {@link #key()} is the name used in workload profiles and reports.
+ */
+enum Endpoint {
+    LOGIN("login"),
+    CREATE_LOAN("createLoan"),
+    LIST_LOANS("listLoans"),
+    LIST_INSTALLMENTS("listInstallments"),
+    PAY("pay");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+}
@@ -0,0 +1,50 @@
+package com.inghub.loanapi.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram (microseconds, 3 significant digits) and response status counts of one endpoint.
+ * Status 0 stands for a request that failed without a response (connect error, timeout).
+ */
+final class EndpointStats {
+
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    void record(int status, long latencyNanos) {
+        latencies.recordValue(Math.max(1, latencyNanos / 1_000));
+        statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+        if (status == 0 || status >= 400) {
+            errors.increment();
+        }
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    double maxMillis() {
+        return latencies.getMaxValue() / 1_000.0;
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
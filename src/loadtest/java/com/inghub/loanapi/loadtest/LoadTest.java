@@ -0,0 +1,256 @@
+package com.inghub.loanapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * HTTP load generator for a running loan API.
+ * <p>
+ * It logs in as an admin, prepares the existing customers and seed loans, then drives the profile's endpoint mix
+ * for the configured duration. Latency and throughput are reported per endpoint. With a target rate, requests
+ * follow a fixed schedule and latency is measured from each request's scheduled start. A server that falls behind
+ * therefore shows its queueing delay instead of hiding it (no coordinated omission).
+ * <pre>
+ * mvn -Ploadtest -DskipTests test-compile exec:exec -Dloadtest.args="--profile production --rate 300 --duration 120"
+ * </pre>
+ * Options: --base-url, --profile, --concurrency, --rate (requests/s, 0 = as fast as possible), --duration and
+ * --warmup (seconds), --email, --password, --json (write the report as JSON to this file).
+ */
+public final class LoadTest {
+
+    private static final BigDecimal CUSTOMER_CREDIT_LIMIT = new BigDecimal("1000000000000");
+    private static final int[] INSTALLMENT_COUNTS = {6, 9, 12, 24};
+
+    private final WorkloadProfile profile;
+    private final LoanApiClient client;
+    private final String email;
+    private final String password;
+    private final LoanPool pool = new LoanPool();
+    private final AtomicReference<Map<Endpoint, EndpointStats>> stats = new AtomicReference<>(newStats());
+
+    private LoadTest(WorkloadProfile profile, LoanApiClient client, String email, String password) {
+        this.profile = profile;
+        this.client = client;
+        this.email = email;
+        this.password = password;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        WorkloadProfile profile = WorkloadProfile.load(options.getOrDefault("profile", "production"))
+                .withLoadShape(intOption(options, "concurrency"), intOption(options, "rate"),
+                        intOption(options, "duration"), intOption(options, "warmup"));
+        LoanApiClient client = new LoanApiClient(options.getOrDefault("base-url", "http://localhost:8080"), profile.concurrency());
+        LoadTest loadTest = new LoadTest(profile, client,
+                options.getOrDefault("email", "a@a.com"), options.getOrDefault("password", "1"));
+
+        loadTest.prepare();
+        Map<String, Object> report = loadTest.run();
+        if (options.containsKey("json")) {
+            Path path = Path.of(options.get("json"));
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+            System.out.println("Report written to " + path.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Raises the credit limit of the existing customers so the mix never runs out of credit, then gives each
+     * of them seed loans. Customers can't be created through the API beyond the seeded users, so the run works
+     * on the customers already in the database.
+     */
+    private void prepare() {
+        client.authenticate(email, password);
+        LoanApiClient.Response customers = client.listCustomers();
+        if (!customers.isSuccess() || customers.body().isEmpty()) {
+            throw new IllegalStateException("Listing customers failed with status " + customers.status());
+        }
+        for (JsonNode customer : customers.body()) {
+            long customerId = customer.get("customerId").asLong();
+            LoanApiClient.Response response = client.updateCustomer(customerId, customer.get("name").asText(),
+                    customer.get("surname").asText(), CUSTOMER_CREDIT_LIMIT);
+            if (!response.isSuccess()) {
+                throw new IllegalStateException("Raising the credit limit of customer " + customerId
+                        + " failed with status " + response.status());
+            }
+            pool.addCustomer(customerId);
+            for (int i = 0; i < profile.loansPerCustomer(); i++) {
+                createLoan(customerId, ThreadLocalRandom.current());
+            }
+        }
+        System.out.printf("Prepared %d customers and %d loans for profile '%s'%n",
+                pool.customerCount(), pool.loanCount(), profile.name());
+    }
+
+    private Map<String, Object> run() throws InterruptedException {
+        long intervalNanos = profile.rate() > 0 ? TimeUnit.SECONDS.toNanos(1) / profile.rate() : 0;
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(profile.warmupSeconds());
+        long endNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(profile.durationSeconds());
+        AtomicLong tickets = new AtomicLong();
+
+        System.out.printf("Running: concurrency %d, rate %s, warmup %ds, duration %ds%n", profile.concurrency(),
+                profile.rate() > 0 ? profile.rate() + "/s" : "unlimited", profile.warmupSeconds(), profile.durationSeconds());
+
+        List<Thread> workers = new ArrayList<>(profile.concurrency());
+        for (int i = 0; i < profile.concurrency(); i++) {
+            Thread worker = new Thread(() -> work(startNanos, endNanos, intervalNanos, tickets), "load-worker-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        // Warm-up results are discarded
+        LockSupport.parkNanos(measureFromNanos - System.nanoTime());
+        stats.set(newStats());
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double measuredSeconds = (System.nanoTime() - measureFromNanos) / 1e9;
+        return report(stats.get(), measuredSeconds);
+    }
+
+    private void work(long startNanos, long endNanos, long intervalNanos, AtomicLong tickets) {
+        RandomGenerator random = ThreadLocalRandom.current();
+        while (true) {
+            long scheduledNanos;
+            if (intervalNanos > 0) {
+                scheduledNanos = startNanos + tickets.getAndIncrement() * intervalNanos;
+                if (scheduledNanos >= endNanos) {
+                    return;
+                }
+                long wait;
+                while ((wait = scheduledNanos - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                scheduledNanos = System.nanoTime();
+                if (scheduledNanos >= endNanos) {
+                    return;
+                }
+            }
+
+            Endpoint endpoint = profile.next(random);
+            int status = execute(endpoint, random);
+            stats.get().get(endpoint).record(status, System.nanoTime() - scheduledNanos);
+        }
+    }
+
+    private int execute(Endpoint endpoint, RandomGenerator random) {
+        return switch (endpoint) {
+            case LOGIN -> client.login(email, password).status();
+            case CREATE_LOAN -> createLoan(pool.randomCustomer(random), random);
+            case LIST_LOANS -> client.listLoans(pool.randomCustomer(random), profile.listLimit(),
+                    profile.listIncludeInstallments()).status();
+            case LIST_INSTALLMENTS -> {
+                LoanPool.OpenLoan loan = pool.randomLoan(random);
+                yield loan == null ? createLoan(pool.randomCustomer(random), random) : client.listInstallments(loan.loanId()).status();
+            }
+            case PAY -> pay(random);
+        };
+    }
+
+    private int createLoan(long customerId, RandomGenerator random) {
+        int installments = INSTALLMENT_COUNTS[random.nextInt(INSTALLMENT_COUNTS.length)];
+        BigDecimal amount = BigDecimal.valueOf(1_000L + random.nextInt(20) * 500L);
+        LoanApiClient.Response response = client.createLoan(customerId, amount, new BigDecimal("0.2"), installments);
+        if (response.isSuccess()) {
+            JsonNode loan = response.body();
+            BigDecimal installmentAmount = loan.get("totalAmount").decimalValue()
+                    .divide(BigDecimal.valueOf(installments), 2, RoundingMode.UP);
+            pool.addLoan(new LoanPool.OpenLoan(loan.get("loanId").asLong(), customerId, installmentAmount));
+        }
+        return response.status();
+    }
+
+    // Pays one or two installments; loans that end up fully paid leave the pool
+    private int pay(RandomGenerator random) {
+        LoanPool.OpenLoan loan = pool.randomLoan(random);
+        if (loan == null) {
+            return createLoan(pool.randomCustomer(random), random);
+        }
+        BigDecimal amount = loan.installmentAmount().multiply(BigDecimal.valueOf(1 + random.nextInt(2)));
+        LoanApiClient.Response response = client.pay(loan.loanId(), amount);
+        if (response.status() == 409 || (response.isSuccess() && response.body().path("loanFullyPaid").asBoolean())) {
+            pool.removeLoan(loan);
+        }
+        return response.status();
+    }
+
+    private static Map<Endpoint, EndpointStats> newStats() {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        return stats;
+    }
+
+    private Map<String, Object> report(Map<Endpoint, EndpointStats> stats, double seconds) {
+        System.out.printf("%n%-18s %9s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long total = 0;
+        for (Endpoint endpoint : profile.weights().keySet()) {
+            EndpointStats endpointStats = stats.get(endpoint);
+            total += endpointStats.count();
+            System.out.printf("%-18s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n", endpoint.key(),
+                    endpointStats.count(), endpointStats.errors(), endpointStats.count() / seconds,
+                    endpointStats.percentileMillis(50), endpointStats.percentileMillis(95),
+                    endpointStats.percentileMillis(99), endpointStats.maxMillis());
+            if (endpointStats.errors() > 0) {
+                System.out.printf("%-18s statuses: %s%n", "", endpointStats.statuses());
+            }
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("requests", endpointStats.count());
+            entry.put("errors", endpointStats.errors());
+            entry.put("throughput", endpointStats.count() / seconds);
+            entry.put("p50Millis", endpointStats.percentileMillis(50));
+            entry.put("p95Millis", endpointStats.percentileMillis(95));
+            entry.put("p99Millis", endpointStats.percentileMillis(99));
+            entry.put("maxMillis", endpointStats.maxMillis());
+            entry.put("statuses", endpointStats.statuses());
+            endpoints.put(endpoint.key(), entry);
+        }
+        System.out.printf("%-18s %9d %8s %9.1f%n", "total", total, "", total / seconds);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("profile", profile.name());
+        report.put("concurrency", profile.concurrency());
+        report.put("targetRate", profile.rate());
+        report.put("durationSeconds", seconds);
+        report.put("throughput", total / seconds);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value pairs, got: " + String.join(" ", args));
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private static Integer intOption(Map<String, String> options, String name) {
+        return options.containsKey(name) ? Integer.valueOf(options.get(name)) : null;
+    }
+}
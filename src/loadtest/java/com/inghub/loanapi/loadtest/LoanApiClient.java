@@ -0,0 +1,138 @@
+package com.inghub.loanapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin blocking client for the loan API endpoints the load test exercises.
+ */
+final class LoanApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    record Response(int status, JsonNode body) {
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private volatile String token;
+
+    LoanApiClient(String baseUrl, int concurrency) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, concurrency / 4), runnable -> {
+                    Thread thread = new Thread(runnable, "load-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+    }
+
+    Response login(String email, String password) {
+        return post("/auth/login", Map.of("email", email, "password", password), false);
+    }
+
+    /**
+     * Logs in and keeps the token for all following calls.
+     */
+    void authenticate(String email, String password) {
+        Response response = login(email, password);
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Login as " + email + " failed with status " + response.status());
+        }
+        token = response.body().get("token").asText();
+    }
+
+    Response listCustomers() {
+        return get("/api/customers");
+    }
+
+    Response updateCustomer(long customerId, String name, String surname, BigDecimal creditLimit) {
+        return send(request("/api/customers/" + customerId, true)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(json(Map.of("name", name, "surname", surname,
+                        "creditLimit", creditLimit, "role", "ADMIN")))).build());
+    }
+
+    Response createLoan(long customerId, BigDecimal amount, BigDecimal interestRate, int installments) {
+        return post("/api/loans", Map.of("customerId", customerId, "amount", amount,
+                "interestRate", interestRate, "numberOfInstallments", installments), true);
+    }
+
+    Response listLoans(long customerId, int limit, boolean includeInstallments) {
+        return get("/api/loans?customerId=" + customerId + "&limit=" + limit + "&includeInstallments=" + includeInstallments);
+    }
+
+    Response listInstallments(long loanId) {
+        return get("/api/loans/" + loanId + "/installments");
+    }
+
+    Response pay(long loanId, BigDecimal amount) {
+        return post("/api/loans/" + loanId + "/pay", Map.of("loanId", loanId, "paymentAmount", amount), true);
+    }
+
+    private Response get(String path) {
+        return send(request(path, true).GET().build());
+    }
+
+    private Response post(String path, Object body, boolean authenticated) {
+        return send(request(path, authenticated)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(body)))
+                .build());
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Cannot serialize request body", ex);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, boolean authenticated) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (authenticated) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(HttpRequest request) {
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            byte[] body = response.body();
+            return new Response(response.statusCode(), body.length == 0 ? null : parse(body));
+        } catch (IOException ex) {
+            return new Response(0, null);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new Response(0, null);
+        }
+    }
+
+    private JsonNode parse(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.inghub.loanapi.loadtest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Customers and open loans known to the load test, shared by all workers.
+ * Loans are added when created and dropped once fully paid; the pool is capped so long runs don't grow it unbounded.
+ */
+final class LoanPool {
+
+    record OpenLoan(long loanId, long customerId, BigDecimal installmentAmount) {
+    }
+
+    private static final int MAX_LOANS = 10_000;
+
+    private final List<Long> customerIds = new ArrayList<>();
+    private final List<OpenLoan> loans = new ArrayList<>();
+
+    synchronized void addCustomer(long customerId) {
+        customerIds.add(customerId);
+    }
+
+    synchronized long randomCustomer(RandomGenerator random) {
+        return customerIds.get(random.nextInt(customerIds.size()));
+    }
+
+    synchronized int customerCount() {
+        return customerIds.size();
+    }
+
+    synchronized void addLoan(OpenLoan loan) {
+        if (loans.size() < MAX_LOANS) {
+            loans.add(loan);
+        }
+    }
+
+    /**
+     * @return a random open loan, or null if there is none
+     */
+    synchronized OpenLoan randomLoan(RandomGenerator random) {
+        return loans.isEmpty() ? null : loans.get(random.nextInt(loans.size()));
+    }
+
+    synchronized void removeLoan(OpenLoan loan) {
+        loans.remove(loan);
+    }
+
+    synchronized int loanCount() {
+        return loans.size();
+    }
+}
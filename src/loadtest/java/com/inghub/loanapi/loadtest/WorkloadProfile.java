@@ -0,0 +1,87 @@
+package com.inghub.loanapi.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.random.RandomGenerator;
+
+/**
+ * Traffic mix and load shape, read from {@code loadtest/<name>.properties} on the classpath.
+ * Command line options override the load shape; the mix only comes from the profile.
+ */
+record WorkloadProfile(
+        String name,
+        Map<Endpoint, Integer> weights,
+        int concurrency,
+        int rate,
+        int durationSeconds,
+        int warmupSeconds,
+        int loansPerCustomer,
+        int listLimit,
+        boolean listIncludeInstallments
+) {
+
+    static WorkloadProfile load(String name) {
+        Properties properties = new Properties();
+        try (InputStream in = WorkloadProfile.class.getClassLoader().getResourceAsStream("loadtest/" + name + ".properties")) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown workload profile: " + name);
+            }
+            properties.load(in);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot read workload profile " + name, ex);
+        }
+
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            int weight = Integer.parseInt(properties.getProperty("mix." + endpoint.key(), "0"));
+            if (weight > 0) {
+                weights.put(endpoint, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Workload profile " + name + " has no mix.* weights");
+        }
+
+        return new WorkloadProfile(
+                name,
+                weights,
+                intProperty(properties, "concurrency", 16),
+                intProperty(properties, "rate", 0),
+                intProperty(properties, "duration", 60),
+                intProperty(properties, "warmup", 10),
+                intProperty(properties, "loans-per-customer", 5),
+                intProperty(properties, "list-loans.limit", 20),
+                Boolean.parseBoolean(properties.getProperty("list-loans.include-installments", "true")));
+    }
+
+    WorkloadProfile withLoadShape(Integer concurrency, Integer rate, Integer durationSeconds, Integer warmupSeconds) {
+        return new WorkloadProfile(name, weights,
+                concurrency != null ? concurrency : this.concurrency,
+                rate != null ? rate : this.rate,
+                durationSeconds != null ? durationSeconds : this.durationSeconds,
+                warmupSeconds != null ? warmupSeconds : this.warmupSeconds,
+                loansPerCustomer, listLimit, listIncludeInstallments);
+    }
+
+    /**
+     * Picks an endpoint with probability proportional to its weight.
+     */
+    Endpoint next(RandomGenerator random) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = random.nextInt(total);
+        for (Map.Entry<Endpoint, Integer> entry : weights.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    private static int intProperty(Properties properties, String key, int defaultValue) {
+        return Integer.parseInt(properties.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
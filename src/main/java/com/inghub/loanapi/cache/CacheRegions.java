@@ -0,0 +1,23 @@
+package com.inghub.loanapi.cache;
+
+/**
+ * Hibernate second-level cache regions. Every region is created up front by {@link SecondLevelCacheConfiguration};
+ * Hibernate fails to start on a region that isn't.
+ */
+public final class CacheRegions {
+
+    public static final String ROLES = "roles";
+    public static final String ROLE_QUERIES = "role-queries";
+    public static final String CUSTOMERS = "customers";
+    public static final String LOANS = "loans";
+    public static final String LOAN_INSTALLMENTS = "loan-installments";
+    // Ids of the installments of each loan (Loan.installments); the installments themselves are in LOAN_INSTALLMENTS
+    public static final String LOAN_INSTALLMENT_COLLECTIONS = "loan-installment-collections";
+
+    // Hibernate's own regions for query results and the last update time of each table
+    static final String QUERY_RESULTS = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,92 @@
+package com.inghub.loanapi.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache in JCache regions backed by Caffeine, switched on with
+ * {@code loan.second-level-cache.enabled}. Roles never change and are cached read-only without expiry. Customers,
+ * loans, installments and the installment list of each loan are cached read-write, and expire after
+ * {@code loan.second-level-cache.time-to-live} so a node also picks up changes made by other nodes.
+ * <p>
+ * The credit updates are bulk statements, so Hibernate drops the whole customer region whenever a loan is created or
+ * paid; the region mainly serves the reads between mutations.
+ */
+@Configuration
+@ConditionalOnProperty(name = "loan.second-level-cache.enabled", havingValue = "true")
+public class SecondLevelCacheConfiguration {
+
+    private static final long ROLES_MAXIMUM_SIZE = 16;
+
+    @Bean(destroyMethod = "close")
+    CacheManager secondLevelCacheManager(
+            @Value("${loan.second-level-cache.maximum-size:10000}") long maximumSize,
+            @Value("${loan.second-level-cache.installments-maximum-size:100000}") long installmentsMaximumSize,
+            @Value("${loan.second-level-cache.time-to-live:600000}") long ttlMillis
+    ) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A manager per application context, so contexts on different databases never share entries
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("loanapi-second-level-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        Duration ttl = Duration.ofMillis(ttlMillis);
+
+        createRegion(cacheManager, CacheRegions.ROLES, ROLES_MAXIMUM_SIZE, null);
+        createRegion(cacheManager, CacheRegions.ROLE_QUERIES, ROLES_MAXIMUM_SIZE, null);
+        createRegion(cacheManager, CacheRegions.CUSTOMERS, maximumSize, ttl);
+        createRegion(cacheManager, CacheRegions.LOANS, maximumSize, ttl);
+        createRegion(cacheManager, CacheRegions.LOAN_INSTALLMENTS, installmentsMaximumSize, ttl);
+        createRegion(cacheManager, CacheRegions.LOAN_INSTALLMENT_COLLECTIONS, maximumSize, ttl);
+        createRegion(cacheManager, CacheRegions.QUERY_RESULTS, maximumSize, ttl);
+        // One entry per table; evicting one would let stale query results through
+        createRegion(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, null, null);
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheHibernateProperties(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            properties.put(AvailableSettings.USE_QUERY_CACHE, "true");
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    // cache.gets (hit/miss), cache.puts, cache.evictions and cache.removals per region, tagged like the other caches
+    @Bean
+    MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> secondLevelCacheManager.getCacheNames().forEach(region ->
+                JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(region), Tags.empty()));
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, Long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maximumSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -1,34 +1,77 @@
 package com.inghub.loanapi.config;
 
 
+import com.inghub.loanapi.entity.User;
 import com.inghub.loanapi.repository.UserRepository;
+import com.inghub.loanapi.service.PasswordHashingExecutor;
+import com.inghub.loanapi.service.UnknownUserCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
+@Slf4j
 @Configuration
 public class ApplicationConfiguration {
     private final UserRepository userRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UnknownUserCache unknownUserCache;
+    private final int bcryptStrength;
 
-    public ApplicationConfiguration(UserRepository userRepository) {
+    public ApplicationConfiguration(
+            UserRepository userRepository,
+            PasswordHashingExecutor passwordHashingExecutor,
+            UnknownUserCache unknownUserCache,
+            @Value("${security.bcrypt.strength:10}") int bcryptStrength
+    ) {
         this.userRepository = userRepository;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.unknownUserCache = unknownUserCache;
+        this.bcryptStrength = bcryptStrength;
     }
 
+    /**
+     * Loads users by email; emails known to have no account are answered from {@link UnknownUserCache}
+     * without a query.
+     */
     @Bean
     UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return username -> {
+            if (unknownUserCache.isUnknown(username)) {
+                throw new UsernameNotFoundException("User not found");
+            }
+            return userRepository.findByEmail(username)
+                    .orElseThrow(() -> {
+                        unknownUserCache.markUnknown(username);
+                        return new UsernameNotFoundException("User not found");
+                    });
+        };
     }
 
+    /**
+     * BCrypt with a configurable cost, run on the bounded hashing pool. Hashes made with a lower cost
+     * are re-encoded on the next successful login (see {@link #userDetailsPasswordService()}).
+     */
     @Bean
-    BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder() {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor);
+    }
+
+    @Bean
+    UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> {
+            log.info("Upgrading password hash for user: {}", user.getUsername());
+            return userRepository.save(((User) user).setPassword(newPassword));
+        };
     }
 
     @Bean
@@ -42,6 +85,7 @@ public class ApplicationConfiguration {
 
         authProvider.setUserDetailsService(userDetailsService());
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
 
         return authProvider;
     }
@@ -1,10 +1,18 @@
 package com.inghub.loanapi.config;
 
+import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.observability.jfr.JwtValidationEvent;
+import com.inghub.loanapi.service.JwtPrincipal;
 import com.inghub.loanapi.service.JwtService;
+import com.inghub.loanapi.service.PrincipalCache;
+import com.inghub.loanapi.service.TokenRevocationRegistry;
+import com.inghub.loanapi.service.TokenVersionRegistry;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -24,14 +32,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final boolean statelessPrincipal;
 
     public JwtAuthenticationFilter(
             JwtService jwtService,
             UserDetailsService userDetailsService,
+            PrincipalCache principalCache,
+            TokenVersionRegistry tokenVersionRegistry,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            @Value("${security.jwt.stateless-principal:false}") boolean statelessPrincipal,
             HandlerExceptionResolver handlerExceptionResolver
     ) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.statelessPrincipal = statelessPrincipal;
         this.handlerExceptionResolver = handlerExceptionResolver;
     }
 
@@ -48,30 +68,63 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        JwtValidationEvent event = new JwtValidationEvent();
+        event.begin();
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
+            final Claims claims = jwtService.parseVerifiedClaims(jwt);
+            event.setTokenId(claims.getId());
+            event.setOutcome(authenticate(request, claims, event));
+            event.commit();
 
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            filterChain.doFilter(request, response);
+        } catch (Exception exception) {
+            // Tokens that fail the signature or expiry check never reach the commit above
+            if (event.getOutcome() == null) {
+                event.setOutcome(JwtValidationEvent.INVALID);
+                event.commit();
+            }
+            handlerExceptionResolver.resolveException(request, response, null, exception);
+        }
+    }
 
-            if (userEmail != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+    /**
+     * Puts the token's principal into the security context when the claims are current and match the user.
+     *
+     * @return the {@link JwtValidationEvent} outcome
+     */
+    private String authenticate(HttpServletRequest request, Claims claims, JwtValidationEvent event) {
+        final String userEmail = claims.getSubject();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
+        if (userEmail == null || authentication != null || !tokenVersionRegistry.isCurrent(claims)
+                || tokenRevocationRegistry.isRevoked(claims)) {
+            return JwtValidationEvent.REJECTED;
+        }
 
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
-            }
+        // Stateless mode trusts the signed claims; older tokens without them still go through the user lookup
+        boolean fromClaims = statelessPrincipal && JwtPrincipal.isPresentIn(claims);
+        event.setStatelessPrincipal(fromClaims);
+        UserDetails userDetails = fromClaims
+                ? JwtPrincipal.fromClaims(claims)
+                : principalCache.get(claims, () -> this.userDetailsService.loadUserByUsername(userEmail));
 
-            filterChain.doFilter(request, response);
-        } catch (Exception exception) {
-            handlerExceptionResolver.resolveException(request, response, null, exception);
+        if (!jwtService.isTokenValid(claims, userDetails)) {
+            return JwtValidationEvent.REJECTED;
         }
+        // Tokens without a user id claim could not be checked against the token version before the lookup
+        if (userDetails instanceof User user && !tokenVersionRegistry.isCurrent(user.getId(), JwtPrincipal.tokenVersionOf(claims))) {
+            return JwtValidationEvent.REJECTED;
+        }
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        return JwtValidationEvent.AUTHENTICATED;
     }
 }
@@ -1,8 +1,19 @@
 package com.inghub.loanapi.config;
 
+import com.inghub.loanapi.security.AdminOnly;
+import com.inghub.loanapi.security.AdminOrOwner;
+import com.inghub.loanapi.security.OwnershipAuthorizationManager;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -38,6 +49,9 @@ public class SecurityConfiguration {
                 .csrf(AbstractHttpConfigurer::disable) // Recommended method for disabling CSRF (Spring Security 6.x)
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/auth/**", "/h2-console/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // Health and the Prometheus scrape stay open for probes and scrapers; the rest is for admins
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
@@ -52,6 +66,22 @@ public class SecurityConfiguration {
         return http.build();
     }
 
+    /**
+     * Runs {@link OwnershipAuthorizationManager} before {@link AdminOnly} and {@link AdminOrOwner} methods,
+     * in the slot {@code @PreAuthorize} would use. The manager is looked up lazily so its repositories are
+     * not created while the infrastructure advisors are.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor ownershipAuthorizationAdvisor(ObjectProvider<OwnershipAuthorizationManager> authorizationManager) {
+        ComposablePointcut pointcut = new ComposablePointcut(AnnotationMatchingPointcut.forMethodAnnotation(AdminOnly.class))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(AdminOrOwner.class));
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                pointcut, (authentication, invocation) -> authorizationManager.getObject().check(authentication, invocation));
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer() {
         return (web) -> web.ignoring()
@@ -5,10 +5,13 @@ import com.inghub.loanapi.dto.LoginUserDto;
 import com.inghub.loanapi.entity.User;
 import com.inghub.loanapi.service.AuthenticationService;
 import com.inghub.loanapi.service.JwtService;
+import com.inghub.loanapi.service.TokenRevocationService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,20 +21,33 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthenticationController {
     private final JwtService jwtService;
     private final AuthenticationService authenticationService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public AuthenticationController(JwtService jwtService, AuthenticationService authenticationService) {
+    public AuthenticationController(JwtService jwtService, AuthenticationService authenticationService,
+                                    TokenRevocationService tokenRevocationService) {
         this.jwtService = jwtService;
         this.authenticationService = authenticationService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @PostMapping(value = "/login", produces = "application/json")
     public ResponseEntity<LoginResponse> authenticate(@RequestBody LoginUserDto loginUserDto) {
         User authenticatedUser = authenticationService.authenticate(loginUserDto);
 
-        String jwtToken = jwtService.generateToken(authenticatedUser);
+        String jwtToken = jwtService.generateToken(authenticatedUser, authenticationService.findCustomerId(authenticatedUser));
 
         LoginResponse loginResponse = new LoginResponse().setToken(jwtToken).setExpiresIn(jwtService.getExpirationTime());
 
         return ResponseEntity.ok(loginResponse);
     }
-}
\ No newline at end of file
+
+    // Revokes the bearer token of the request; a missing token is nothing to revoke
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            tokenRevocationService.logout(jwtService.parseVerifiedClaims(authorization.substring(7)));
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+}
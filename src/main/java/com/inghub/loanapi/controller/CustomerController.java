@@ -2,6 +2,9 @@ package com.inghub.loanapi.controller;
 
 import com.inghub.loanapi.dto.CustomerRequest;
 import com.inghub.loanapi.dto.CustomerResponse;
+import com.inghub.loanapi.security.AdminOnly;
+import com.inghub.loanapi.security.AdminOrOwner;
+import com.inghub.loanapi.security.OwnedResource;
 import com.inghub.loanapi.service.CustomerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,7 +12,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -26,7 +28,7 @@ public class CustomerController {
             @ApiResponse(responseCode = "200", description = "Customer found"),
             @ApiResponse(responseCode = "404", description = "Customer not found")
     })
-    @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and #customerId == authentication.principal.id)")
+    @AdminOrOwner(resource = OwnedResource.CUSTOMER, parameter = "customerId")
     @GetMapping("/{customerId}")
     public ResponseEntity<CustomerResponse> getCustomerById(@PathVariable Long customerId) {
         return ResponseEntity.ok(customerService.getCustomerById(customerId));
@@ -36,7 +38,7 @@ public class CustomerController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Customer created successfully")
     })
-    @PreAuthorize("hasRole('ADMIN')")
+    @AdminOnly
     @PostMapping
     public ResponseEntity<CustomerResponse> createCustomer(@RequestBody @Valid CustomerRequest request) {
         return ResponseEntity.status(201).body(customerService.createCustomer(request));
@@ -49,7 +51,7 @@ public class CustomerController {
             @ApiResponse(responseCode = "404", description = "Customer not found")
     })
     @PutMapping("/{customerId}")
-    @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and #customerId == authentication.principal.id)")
+    @AdminOnly
     public ResponseEntity<CustomerResponse> updateCustomer(
             @PathVariable Long customerId,
             @RequestBody CustomerRequest request) {
@@ -60,7 +62,7 @@ public class CustomerController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of customers retrieved successfully")
     })
-    @PreAuthorize("hasRole('ADMIN')")
+    @AdminOnly
     @GetMapping
     public ResponseEntity<List<CustomerResponse>> listCustomers() {
         return ResponseEntity.ok(customerService.listAllCustomers());
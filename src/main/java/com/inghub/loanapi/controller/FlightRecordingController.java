@@ -0,0 +1,90 @@
+package com.inghub.loanapi.controller;
+
+import com.inghub.loanapi.dto.FlightRecordingResponse;
+import com.inghub.loanapi.security.AdminOnly;
+import com.inghub.loanapi.service.FlightRecorderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Profiles a running node with Java Flight Recorder, no restart or attached tooling needed.
+ */
+@RestController
+@RequestMapping("/admin/jfr")
+@RequiredArgsConstructor
+public class FlightRecordingController {
+
+    private final FlightRecorderService flightRecorderService;
+
+    @Operation(summary = "Start a flight recording that stops by itself after the given duration")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Recording started"),
+            @ApiResponse(responseCode = "400", description = "Duration above the configured maximum or unknown settings"),
+            @ApiResponse(responseCode = "409", description = "A recording is already running")
+    })
+    @AdminOnly
+    @PostMapping("/start")
+    public ResponseEntity<FlightRecordingResponse> startRecording(
+            @RequestParam(defaultValue = "60000") long durationMillis,
+            @RequestParam(defaultValue = "profile") String settings) {
+        return ResponseEntity.status(201).body(flightRecorderService.start(durationMillis, settings));
+    }
+
+    @Operation(summary = "Stop the running flight recording")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording stopped"),
+            @ApiResponse(responseCode = "409", description = "No recording is running")
+    })
+    @AdminOnly
+    @PostMapping("/stop")
+    public ResponseEntity<FlightRecordingResponse> stopRecording() {
+        return ResponseEntity.ok(flightRecorderService.stop());
+    }
+
+    @Operation(summary = "Get the state of the current flight recording")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording found"),
+            @ApiResponse(responseCode = "204", description = "No recording has been started")
+    })
+    @AdminOnly
+    @GetMapping
+    public ResponseEntity<FlightRecordingResponse> getRecording() {
+        FlightRecordingResponse status = flightRecorderService.status();
+        return status == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(status);
+    }
+
+    @Operation(summary = "Download the recorded data as a .jfr file, also while the recording runs")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording file"),
+            @ApiResponse(responseCode = "409", description = "Nothing has been recorded")
+    })
+    @AdminOnly
+    @GetMapping("/dump")
+    public ResponseEntity<Resource> dumpRecording() throws IOException {
+        Path file = flightRecorderService.dump();
+        long size = Files.size(file);
+
+        // The temporary dump goes away once the response has been streamed
+        InputStreamResource body = new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(body);
+    }
+}
@@ -2,7 +2,11 @@ package com.inghub.loanapi.controller;
 
 
 import com.inghub.loanapi.dto.*;
+import com.inghub.loanapi.security.AdminOnly;
+import com.inghub.loanapi.security.AdminOrOwner;
+import com.inghub.loanapi.security.OwnedResource;
 import com.inghub.loanapi.service.LoanService;
+import io.micrometer.observation.annotation.Observed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -11,19 +15,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+// One span per endpoint; it ends before the response is serialized, so the gap to the HTTP server span is JSON writing
 @Slf4j
 @RestController
 @RequestMapping("/api/loans")
 @RequiredArgsConstructor
 @Validated
+@Observed(name = "loan.controller")
 public class LoanController {
 
+    static final String NEXT_AFTER_LOAN_ID_HEADER = "X-Next-After-Loan-Id";
+
     private final LoanService loanService;
 
     /**
@@ -36,32 +43,64 @@ public class LoanController {
             @ApiResponse(responseCode = "404", description = "Customer not found"),
             @ApiResponse(responseCode = "409", description = "Insufficient credit limit")
     })
-    @PreAuthorize("hasRole('ADMIN')")
+    @AdminOnly
     @PostMapping
     public ResponseEntity<LoanResponse> createLoan(@Valid @RequestBody LoanRequest loanRequest) {
-        log.info("Received request to create loan for customerId: {}", loanRequest.getCustomerId());
+        log.debug("Received request to create loan for customerId: {}", loanRequest.getCustomerId());
         LoanResponse response = loanService.createLoan(loanRequest);
-        log.info("Loan created successfully with loanId: {}", response.getLoanId());
+        log.debug("Loan created successfully with loanId: {}", response.getLoanId());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
-     * List all loans for a customer with optional filters.
+     * Create many loans in one call. Each item is validated on its own and reported in the result.
+     */
+    @Operation(summary = "Create loans in bulk")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    })
+    @AdminOnly
+    @PostMapping("/batch")
+    public ResponseEntity<LoanBatchResponse> createLoans(@Valid @RequestBody LoanBatchRequest batchRequest) {
+        log.debug("Received request to create {} loans", batchRequest.getLoans().size());
+        LoanBatchResponse response = loanService.createLoans(batchRequest.getLoans());
+        log.debug("Batch processed. Created: {}, Rejected: {}", response.getCreated(), response.getRejected());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * List loans for a customer with optional filters, one page at a time.
+     * Pass the last loanId of a page as afterLoanId to fetch the next one,
+     * and includeInstallments=false to skip loading the installment schedules.
      */
-    @Operation(summary = "List all loans for a customer with optional filters")
+    @Operation(summary = "List loans for a customer with optional filters and keyset pagination")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Loans listed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size"),
             @ApiResponse(responseCode = "404", description = "Customer not found")
     })
-    @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and #customerId == authentication.principal.id)")
+    @AdminOrOwner(resource = OwnedResource.CUSTOMER, parameter = "customerId")
     @GetMapping
     public ResponseEntity<List<LoanResponse>> listLoans(
             @RequestParam Long customerId,
             @RequestParam(required = false) Integer numInstallments,
-            @RequestParam(required = false) Boolean isPaid) {
-        log.info("Listing loans for customerId: {}, numInstallments: {}, isPaid: {}", customerId, numInstallments, isPaid);
-        List<LoanResponse> loans = loanService.listLoans(customerId, numInstallments, isPaid);
-        log.info("Found {} loans for customerId: {}", loans.size(), customerId);
+            @RequestParam(required = false) Boolean isPaid,
+            @RequestParam(required = false) Long afterLoanId,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "true") boolean includeInstallments) {
+        log.debug("Listing loans for customerId: {}, numInstallments: {}, isPaid: {}, afterLoanId: {}, limit: {}, includeInstallments: {}",
+                customerId, numInstallments, isPaid, afterLoanId, limit, includeInstallments);
+        List<LoanResponse> loans = loanService.listLoans(customerId, numInstallments, isPaid, afterLoanId, limit,
+                includeInstallments);
+        log.debug("Found {} loans for customerId: {}", loans.size(), customerId);
+
+        // A full page may have a successor; hand out the cursor for it
+        if (loans.size() == limit) {
+            return ResponseEntity.ok()
+                    .header(NEXT_AFTER_LOAN_ID_HEADER, String.valueOf(loans.get(loans.size() - 1).getLoanId()))
+                    .body(loans);
+        }
         return ResponseEntity.ok(loans);
     }
 
@@ -73,12 +112,12 @@ public class LoanController {
             @ApiResponse(responseCode = "200", description = "Installments listed successfully"),
             @ApiResponse(responseCode = "404", description = "Loan not found")
     })
-    @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and #customerId == authentication.principal.id)")
+    @AdminOrOwner(resource = OwnedResource.LOAN, parameter = "loanId")
     @GetMapping("/{loanId}/installments")
     public ResponseEntity<List<InstallmentResponse>> listInstallments(@PathVariable Long loanId) {
-        log.info("Listing installments for loanId: {}", loanId);
+        log.debug("Listing installments for loanId: {}", loanId);
         List<InstallmentResponse> installments = loanService.listInstallmentsForLoan(loanId);
-        log.info("Found {} installments for loanId: {}", installments.size(), loanId);
+        log.debug("Found {} installments for loanId: {}", installments.size(), loanId);
         return ResponseEntity.ok(installments);
     }
 
@@ -93,19 +132,19 @@ public class LoanController {
             @ApiResponse(responseCode = "404", description = "Loan not found"),
             @ApiResponse(responseCode = "409", description = "Loan already fully paid")
     })
-    @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and #customerId == authentication.principal.id)")
+    @AdminOrOwner(resource = OwnedResource.LOAN, parameter = "loanId")
     @PostMapping("/{loanId}/pay")
     public ResponseEntity<LoanPaymentResponse> payLoan(
             @PathVariable Long loanId,
             @Valid @RequestBody LoanPaymentRequest paymentRequest) {
-        log.info("Processing payment for loanId: {}", loanId);
+        log.debug("Processing payment for loanId: {}", loanId);
         if (!loanId.equals(paymentRequest.getLoanId())) {
-            log.error("Mismatch between path loanId and request loanId");
+            log.warn("Mismatch between path loanId and request loanId");
             return ResponseEntity.badRequest().body(null);
         }
 
         LoanPaymentResponse response = loanService.payLoanInstallment(paymentRequest);
-        log.info("Payment processed for loanId: {}. Total paid: {}", response.getLoanId(), response.getTotalPaid());
+        log.debug("Payment processed for loanId: {}. Total paid: {}", response.getLoanId(), response.getTotalPaid());
         return ResponseEntity.ok(response);
     }
 }
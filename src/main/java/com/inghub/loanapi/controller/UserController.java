@@ -1,24 +1,36 @@
 package com.inghub.loanapi.controller;
 
 import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.exception.InvalidTokenIdException;
+import com.inghub.loanapi.security.AdminOnly;
+import com.inghub.loanapi.service.TokenRevocationService;
 import com.inghub.loanapi.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 @RequestMapping("/users")
 @RestController
 public class UserController {
+
+    // Token ids are issued as random UUIDs, which also keeps them within the revoked_tokens.token_id column
+    private static final Pattern TOKEN_ID = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, TokenRevocationService tokenRevocationService) {
         this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @GetMapping("/me")
@@ -26,7 +38,10 @@ public class UserController {
     public ResponseEntity<User> authenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        User currentUser = (User) authentication.getPrincipal();
+        // A stateless principal only carries the token claims, so the full user is loaded on demand
+        User currentUser = authentication.getPrincipal() instanceof User user
+                ? user
+                : userService.findByEmail(authentication.getName());
 
         return ResponseEntity.ok(currentUser);
     }
@@ -38,4 +53,25 @@ public class UserController {
 
         return ResponseEntity.ok(users);
     }
+
+    // Invalidates every token issued to the user so far
+    @PostMapping("/{userId}/revoke-tokens")
+    @AdminOnly
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable Integer userId) {
+        userService.revokeTokens(userId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    // Invalidates a single token by its id (the jti claim)
+    @PostMapping("/tokens/{tokenId}/revoke")
+    @AdminOnly
+    public ResponseEntity<Void> revokeToken(@PathVariable String tokenId) {
+        if (!TOKEN_ID.matcher(tokenId).matches()) {
+            throw new InvalidTokenIdException("Token id must be a UUID.");
+        }
+        tokenRevocationService.revoke(tokenId);
+
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,149 @@
+package com.inghub.loanapi.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Local stand-in for asynchronous replication between two H2 databases. The replica gets the primary's migrations,
+ * then every sync copies a consistent snapshot of all primary tables into it in one transaction, so readers of the
+ * replica see either the previous or the next snapshot. The lag is the age of the last copied snapshot.
+ * <p>
+ * Every sync copies the whole database, so with a lot of data the lag grows and reads move to the primary, as they
+ * would with a slow real replica.
+ */
+@Slf4j
+public class H2ReplicationStandIn implements ReplicaLagProbe {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String MIGRATION_HISTORY_TABLE = "flyway_schema_history";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Clock clock;
+    private volatile Instant syncedUpTo;
+
+    public H2ReplicationStandIn(DataSource primary, DataSource replica, List<String> migrationLocations) {
+        this(primary, replica, migrationLocations, Clock.systemUTC());
+    }
+
+    H2ReplicationStandIn(DataSource primary, DataSource replica, List<String> migrationLocations, Clock clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.clock = clock;
+        Flyway.configure()
+                .dataSource(replica)
+                .locations(migrationLocations.toArray(String[]::new))
+                .load()
+                .migrate();
+    }
+
+    @Override
+    public Optional<Duration> currentLag() {
+        Instant synced = syncedUpTo;
+        return synced == null ? Optional.empty() : Optional.of(Duration.between(synced, clock.instant()));
+    }
+
+    /**
+     * Copies the primary into the replica. A failed sync leaves the replica as it was, and its lag keeps growing.
+     */
+    @Scheduled(fixedDelayString = "${loan.datasource.replica.stand-in.sync-interval:500}")
+    public void sync() {
+        // Taken before the snapshot is read, so the reported lag never understates it
+        Instant snapshotAt = clock.instant();
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            source.setReadOnly(true);
+            source.setAutoCommit(false);
+            source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            target.setAutoCommit(false);
+
+            List<String> tables = tables(source);
+            setReferentialIntegrity(target, false);
+            try {
+                for (String table : tables) {
+                    copyTable(source, target, table);
+                }
+                target.commit();
+            } catch (SQLException ex) {
+                target.rollback();
+                throw ex;
+            } finally {
+                setReferentialIntegrity(target, true);
+                source.rollback();
+            }
+            syncedUpTo = snapshotAt;
+        } catch (SQLException ex) {
+            log.warn("Replica sync failed, replica stays at {}: {}", syncedUpTo, ex.getMessage());
+        }
+    }
+
+    private static List<String> tables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (ResultSet resultSet = connection.getMetaData().getTables(null, connection.getSchema(), null, new String[]{"TABLE"})) {
+            while (resultSet.next()) {
+                String table = resultSet.getString("TABLE_NAME");
+                if (!MIGRATION_HISTORY_TABLE.equalsIgnoreCase(table)) {
+                    tables.add(table);
+                }
+            }
+        }
+        return tables;
+    }
+
+    private static void copyTable(Connection source, Connection target, String table) throws SQLException {
+        String quoted = '"' + table + '"';
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + quoted);
+        }
+
+        try (Statement select = source.createStatement(); ResultSet rows = select.executeQuery("SELECT * FROM " + quoted)) {
+            ResultSetMetaData metaData = rows.getMetaData();
+            int columns = metaData.getColumnCount();
+            List<String> names = new ArrayList<>(columns);
+            for (int i = 1; i <= columns; i++) {
+                names.add('"' + metaData.getColumnName(i) + '"');
+            }
+            String insertSql = "INSERT INTO " + quoted + " (" + String.join(", ", names) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+
+            try (PreparedStatement insert = target.prepareStatement(insertSql)) {
+                int pending = 0;
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rows.getObject(i));
+                    }
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    // The copy deletes and refills parent and child tables in any order; the snapshot itself is consistent
+    private static void setReferentialIntegrity(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET REFERENTIAL_INTEGRITY " + enabled);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.inghub.loanapi.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read replica routing, switched on with {@code loan.datasource.replica.enabled} (the {@code replica} profile).
+ * {@code @Transactional(readOnly = true)} work, including Spring Data's read methods called outside a service
+ * transaction, reads from the {@code loan.datasource.replica.*} pool; everything else uses {@code spring.datasource.*}.
+ * The replica may serve data up to {@code loan.datasource.replica.max-lag} old, as reported by the
+ * {@link ReplicaLagProbe} bean the deployment provides; without one the application does not start.
+ * Authorization lookups are declared read-write on their repositories, so they always read the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "loan.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("loan.datasource.replica")
+    HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ObjectProvider<ReplicaLagProbe> lagProbe,
+            @Value("${loan.datasource.replica.max-lag:2000}") long maxLagMillis,
+            MeterRegistry meterRegistry
+    ) {
+        // Without a probe only an unreachable replica would send reads back to the primary
+        ReplicaLagProbe probe = lagProbe.getIfAvailable(() -> {
+            throw new IllegalStateException("loan.datasource.replica.enabled needs a ReplicaLagProbe bean reporting "
+                    + "the replication lag, e.g. loan.datasource.replica.stand-in.enabled for local H2 databases");
+        });
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReadReplicaRoutingDataSource(
+                primary, replica, probe, Duration.ofMillis(maxLagMillis), meterRegistry));
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "loan.datasource.replica.stand-in.enabled", havingValue = "true")
+    H2ReplicationStandIn replicationStandIn(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            FlywayProperties flywayProperties
+    ) {
+        return new H2ReplicationStandIn(primary, replica, flywayProperties.getLocations());
+    }
+}
@@ -0,0 +1,97 @@
+package com.inghub.loanapi.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out the connections of read-only transactions: from the replica while it is within the tolerated lag,
+ * otherwise from the primary. A replica that can't be reached is skipped for one lag window before it is tried again.
+ * <p>
+ * It is the read-only DataSource of a {@link LazyConnectionDataSourceProxy}, which asks for the connection only once
+ * the transaction has marked it read-only; read-write work never comes here.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagProbe lagProbe;
+    private final Duration maxLag;
+    private final LongSupplier nanoTime;
+    private final Counter replicaReads;
+    private final Counter laggingFallbacks;
+    private final Counter unavailableFallbacks;
+    private volatile long replicaRetryAt;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagProbe lagProbe,
+                                        Duration maxLag, MeterRegistry meterRegistry) {
+        this(primary, replica, lagProbe, maxLag, meterRegistry, System::nanoTime);
+    }
+
+    ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagProbe lagProbe,
+                                 Duration maxLag, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagProbe = lagProbe;
+        this.maxLag = maxLag;
+        this.nanoTime = nanoTime;
+        this.replicaRetryAt = nanoTime.getAsLong();
+        this.replicaReads = readCounter(meterRegistry, "replica", "none");
+        this.laggingFallbacks = readCounter(meterRegistry, "primary", "lag");
+        this.unavailableFallbacks = readCounter(meterRegistry, "primary", "unavailable");
+        Gauge.builder("loan.datasource.replica.lag", lagProbe, probe -> probe.currentLag().map(Duration::toMillis).orElse(-1L))
+                .description("Replication lag of the read replica in milliseconds, -1 while unknown")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Optional<Duration> lag = lagProbe.currentLag();
+        if (lag.isEmpty() || lag.get().compareTo(maxLag) > 0) {
+            laggingFallbacks.increment();
+            return primary.getConnection();
+        }
+        if (nanoTime.getAsLong() - replicaRetryAt < 0) {
+            unavailableFallbacks.increment();
+            return primary.getConnection();
+        }
+
+        try {
+            Connection connection = replica.getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException ex) {
+            replicaRetryAt = nanoTime.getAsLong() + maxLag.toNanos();
+            log.warn("Read replica unavailable, reading from the primary for the next {} ms: {}", maxLag.toMillis(), ex.getMessage());
+            unavailableFallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    // Both pools are configured with their own credentials
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Read-only connections use the credentials of the configured pools");
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target, String fallback) {
+        return Counter.builder("loan.datasource.reads")
+                .description("Connections handed to read-only transactions")
+                .tag("target", target)
+                .tag("fallback", fallback)
+                .register(meterRegistry);
+    }
+}
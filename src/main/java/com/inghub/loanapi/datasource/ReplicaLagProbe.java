@@ -0,0 +1,16 @@
+package com.inghub.loanapi.datasource;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Tells how far the read replica is behind the primary.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    /**
+     * @return the current replication lag, or empty while it is unknown (e.g. the replica has never caught up)
+     */
+    Optional<Duration> currentLag();
+}
@@ -0,0 +1,25 @@
+package com.inghub.loanapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightRecordingResponse {
+
+    private Long id;
+    private String name;
+    private String state;
+    private String settings;
+    private Instant startTime;
+    private Instant stopTime;
+    private Long durationMillis;
+    private Long maxSizeBytes;
+    private Long sizeBytes;
+}
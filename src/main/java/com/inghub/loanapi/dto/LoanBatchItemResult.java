@@ -0,0 +1,26 @@
+package com.inghub.loanapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanBatchItemResult {
+
+    private Integer index; // position of the item in the request
+    private Boolean created;
+    private LoanResponse loan;
+    private String error;
+
+    public static LoanBatchItemResult created(int index, LoanResponse loan) {
+        return LoanBatchItemResult.builder().index(index).created(true).loan(loan).build();
+    }
+
+    public static LoanBatchItemResult rejected(int index, String error) {
+        return LoanBatchItemResult.builder().index(index).created(false).error(error).build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.inghub.loanapi.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanBatchRequest {
+
+    // Items are validated one by one in the service so that a bad item is reported, not fatal
+    @NotEmpty(message = "Loan list cannot be empty")
+    @Size(max = 5000, message = "A batch can contain at most 5000 loans")
+    private List<LoanRequest> loans;
+}
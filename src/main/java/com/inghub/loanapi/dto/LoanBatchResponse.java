@@ -0,0 +1,20 @@
+package com.inghub.loanapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanBatchResponse {
+
+    private Integer requested;
+    private Integer created;
+    private Integer rejected;
+    private List<LoanBatchItemResult> results;
+}
@@ -4,12 +4,14 @@ import com.inghub.loanapi.dto.CustomerRequest;
 import com.inghub.loanapi.dto.CustomerResponse;
 import com.inghub.loanapi.entity.Customer;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = LoanMapper.class)
 public interface CustomerMapper {
     CustomerMapper INSTANCE = Mappers.getMapper(CustomerMapper.class);
 
+    @Mapping(source = "id", target = "customerId")
     CustomerResponse toResponse(Customer customer);
 
     Customer toEntity(CustomerRequest request);
@@ -4,10 +4,15 @@ import com.inghub.loanapi.dto.InstallmentResponse;
 import com.inghub.loanapi.dto.LoanResponse;
 import com.inghub.loanapi.entity.Loan;
 import com.inghub.loanapi.entity.LoanInstallment;
+import com.inghub.loanapi.money.Money;
+import com.inghub.loanapi.repository.projection.LoanInstallmentView;
+import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.mapstruct.factory.Mappers;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Mapper(componentModel = "spring")
@@ -15,17 +20,41 @@ public interface LoanMapper {
     LoanMapper INSTANCE = Mappers.getMapper(LoanMapper.class);
 
     // Mapping Loan to LoanResponse
+    @Mapping(source = "id", target = "loanId")
     @Mapping(source = "customer.id", target = "customerId")
     LoanResponse toLoanResponse(Loan loan);
 
     // Mapping List of Loans to List of LoanResponse
     List<LoanResponse> toLoanResponseList(List<Loan> loans);
 
+    // Mapping Loan to LoanResponse without touching the lazy installments collection
+    @Named("toLoanSummaryResponse")
+    @Mapping(source = "id", target = "loanId")
+    @Mapping(source = "customer.id", target = "customerId")
+    @Mapping(target = "installments", ignore = true)
+    LoanResponse toLoanSummaryResponse(Loan loan);
+
+    // Mapping List of Loans to List of LoanResponse without installments
+    @IterableMapping(qualifiedByName = "toLoanSummaryResponse")
+    List<LoanResponse> toLoanSummaryResponseList(List<Loan> loans);
+
     // Mapping LoanInstallment to InstallmentResponse
+    @Mapping(source = "id", target = "installmentId")
     @Mapping(source = "loan.id", target = "loanId")
     InstallmentResponse toInstallmentResponse(LoanInstallment installment);
 
     // Mapping List of LoanInstallment to List of InstallmentResponse
     List<InstallmentResponse> toInstallmentResponseList(List<LoanInstallment> installments);
+
+    // Mapping projected installment row to InstallmentResponse
+    InstallmentResponse toInstallmentResponse(LoanInstallmentView installment);
+
+    // Mapping List of projected installment rows to List of InstallmentResponse
+    List<InstallmentResponse> toInstallmentResponsesFromViews(List<LoanInstallmentView> installments);
+
+    // Money amounts are exposed as plain decimals in the API
+    default BigDecimal toBigDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
 }
 
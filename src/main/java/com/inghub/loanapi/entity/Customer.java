@@ -1,10 +1,13 @@
 package com.inghub.loanapi.entity;
 
+import com.inghub.loanapi.cache.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
@@ -12,6 +15,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "customers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMERS)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,9 +42,10 @@ public class Customer {
     @Column(nullable = false)
     private BigDecimal creditLimit;
 
+    // Only written by the guarded bulk updates in CustomerRepository, so a stale cached copy can't overwrite it
     @NotNull
     @DecimalMin(value = "0.0", message = "Used credit limit cannot be negative")
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private BigDecimal usedCreditLimit = BigDecimal.ZERO;
 
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
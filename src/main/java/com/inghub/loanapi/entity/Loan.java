@@ -1,10 +1,15 @@
 package com.inghub.loanapi.entity;
 
 
+import com.inghub.loanapi.cache.CacheRegions;
 import com.inghub.loanapi.enums.LoanStatus;
+import com.inghub.loanapi.money.Money;
+import com.inghub.loanapi.money.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -13,6 +18,9 @@ import java.util.List;
 
 @Entity
 @Table(name = "loans")
+@NamedEntityGraph(name = Loan.WITH_INSTALLMENTS_GRAPH, attributeNodes = @NamedAttributeNode("installments"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LOANS)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,8 +29,11 @@ import java.util.List;
 @EqualsAndHashCode(of = {"id"})
 public class Loan {
 
+    public static final String WITH_INSTALLMENTS_GRAPH = "Loan.withInstallments";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_seq")
+    @SequenceGenerator(name = "loan_seq", sequenceName = "loans_seq", allocationSize = 50) // pooled ids keep JDBC insert batching enabled
     private Long id;
 
     @NotNull
@@ -32,11 +43,13 @@ public class Loan {
 
     @NotNull
     @Column(nullable = false)
-    private BigDecimal loanAmount; // Principal amount
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money loanAmount; // Principal amount
 
     @NotNull
     @Column(nullable = false)
-    private BigDecimal totalAmount; // loanAmount * (1 + interestRate)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money totalAmount; // loanAmount * (1 + interestRate)
 
     @NotNull
     @Column(nullable = false)
@@ -60,6 +73,7 @@ public class Loan {
 
     @OneToMany(mappedBy = "loan", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @OrderBy("installmentNumber ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LOAN_INSTALLMENT_COLLECTIONS)
     private List<LoanInstallment> installments = new ArrayList<>();
 
 
@@ -1,15 +1,21 @@
 package com.inghub.loanapi.entity;
 
+import com.inghub.loanapi.cache.CacheRegions;
 import com.inghub.loanapi.enums.InstallmentStatus;
+import com.inghub.loanapi.money.Money;
+import com.inghub.loanapi.money.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
 @Table(name = "loan_installments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LOAN_INSTALLMENTS)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +25,8 @@ import java.time.LocalDate;
 public class LoanInstallment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_installment_seq")
+    @SequenceGenerator(name = "loan_installment_seq", sequenceName = "loan_installments_seq", allocationSize = 50) // pooled ids keep JDBC insert batching enabled
     private Long id;
 
     @NotNull
@@ -33,10 +40,12 @@ public class LoanInstallment {
 
     @NotNull
     @Column(nullable = false)
-    private BigDecimal amount;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money amount;
 
     @Column(precision = 19, scale = 2)
-    private BigDecimal paidAmount;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money paidAmount;
 
     @NotNull
     @Column(nullable = false)
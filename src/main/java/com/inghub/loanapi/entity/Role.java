@@ -1,14 +1,23 @@
 package com.inghub.loanapi.entity;
 
+import com.inghub.loanapi.cache.CacheRegions;
 import com.inghub.loanapi.enums.RoleEnum;
+import com.inghub.loanapi.service.PrincipalCacheInvalidator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.util.Date;
 
 @Table(name = "roles")
 @Entity
+@Cacheable
+@Immutable // roles are only ever inserted, so they can be cached read-only
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = CacheRegions.ROLES)
+@EntityListeners(PrincipalCacheInvalidator.class)
 public class Role {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -1,5 +1,6 @@
 package com.inghub.loanapi.entity;
 
+import com.inghub.loanapi.service.PrincipalCacheInvalidator;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -13,6 +14,7 @@ import java.util.List;
 
 @Table(name = "users")
 @Entity
+@EntityListeners(PrincipalCacheInvalidator.class)
 public class User implements UserDetails {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -40,6 +42,9 @@ public class User implements UserDetails {
     @JoinColumn(name = "role_id", referencedColumnName = "id", nullable = false)
     private Role role;
 
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role.getName().toString());
@@ -135,6 +140,15 @@ public class User implements UserDetails {
         return this;
     }
 
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public User setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "User{" +
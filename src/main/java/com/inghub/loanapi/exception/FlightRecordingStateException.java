@@ -0,0 +1,12 @@
+package com.inghub.loanapi.exception;
+
+public class FlightRecordingStateException extends RuntimeException {
+
+    public FlightRecordingStateException(String message) {
+        super(message);
+    }
+
+    public FlightRecordingStateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
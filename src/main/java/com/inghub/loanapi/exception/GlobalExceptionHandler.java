@@ -1,9 +1,11 @@
 package com.inghub.loanapi.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -19,19 +21,28 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * Handle all custom exceptions with a unified method.
      */
     @ExceptionHandler({
             CustomerNotFoundException.class,
+            LoanNotFoundException.class,
             InsufficientCreditException.class,
             InvalidLoanParameterException.class,
             LoanAlreadyPaidException.class,
-            PaymentException.class
+            PaymentException.class,
+            MutationRejectedException.class,
+            PasswordHashingRejectedException.class,
+            FlightRecordingStateException.class,
+            InvalidRecordingParameterException.class,
+            InvalidTokenIdException.class
     })
     public ResponseEntity<ErrorResponse> handleCustomExceptions(RuntimeException ex, WebRequest request) {
         log.error("Exception: {} - {}", ex.getClass().getSimpleName(), ex.getMessage());
         HttpStatus status = determineStatus(ex);
+        meterRegistry.counter("loan.api.exceptions", "exception", ex.getClass().getSimpleName()).increment();
         return buildErrorResponse(ex.getMessage(), status, request);
     }
 
@@ -50,6 +61,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
     }
 
+    /**
+     * Handle authorization denials from the method security checks.
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex, WebRequest request) {
+        log.warn("Access denied: {}", ex.getMessage());
+        return buildErrorResponse("Access denied.", HttpStatus.FORBIDDEN, request);
+    }
+
     /**
      * Handle all uncaught exceptions (fallback).
      */
@@ -77,10 +97,16 @@ public class GlobalExceptionHandler {
      */
     private HttpStatus determineStatus(RuntimeException ex) {
         if (ex instanceof CustomerNotFoundException) return HttpStatus.NOT_FOUND;
+        if (ex instanceof LoanNotFoundException) return HttpStatus.NOT_FOUND;
         if (ex instanceof InsufficientCreditException) return HttpStatus.CONFLICT;
         if (ex instanceof InvalidLoanParameterException) return HttpStatus.BAD_REQUEST;
         if (ex instanceof LoanAlreadyPaidException) return HttpStatus.CONFLICT;
         if (ex instanceof PaymentException) return HttpStatus.BAD_REQUEST;
+        if (ex instanceof MutationRejectedException) return HttpStatus.SERVICE_UNAVAILABLE;
+        if (ex instanceof PasswordHashingRejectedException) return HttpStatus.SERVICE_UNAVAILABLE;
+        if (ex instanceof FlightRecordingStateException) return HttpStatus.CONFLICT;
+        if (ex instanceof InvalidRecordingParameterException) return HttpStatus.BAD_REQUEST;
+        if (ex instanceof InvalidTokenIdException) return HttpStatus.BAD_REQUEST;
         return HttpStatus.INTERNAL_SERVER_ERROR; // Default fallback
     }
 
@@ -0,0 +1,12 @@
+package com.inghub.loanapi.exception;
+
+public class InvalidRecordingParameterException extends RuntimeException {
+
+    public InvalidRecordingParameterException(String message) {
+        super(message);
+    }
+
+    public InvalidRecordingParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
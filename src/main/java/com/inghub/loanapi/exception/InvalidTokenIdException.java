@@ -0,0 +1,12 @@
+package com.inghub.loanapi.exception;
+
+public class InvalidTokenIdException extends RuntimeException {
+
+    public InvalidTokenIdException(String message) {
+        super(message);
+    }
+
+    public InvalidTokenIdException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,13 @@
+package com.inghub.loanapi.exception;
+
+
+public class LoanNotFoundException extends RuntimeException {
+
+    public LoanNotFoundException(String message) {
+        super(message);
+    }
+
+    public LoanNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.inghub.loanapi.exception;
+
+public class MutationRejectedException extends RuntimeException {
+
+    public MutationRejectedException(String message) {
+        super(message);
+    }
+
+    public MutationRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,132 @@
+package com.inghub.loanapi.money;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable monetary amount held as a whole number of cents.
+ * <p>
+ * Every operation that can produce fractions of a cent rounds {@link RoundingMode#HALF_UP HALF_UP},
+ * which matches {@code setScale(2, RoundingMode.HALF_UP)} on the equivalent {@link BigDecimal} math.
+ * Arithmetic overflow raises {@link ArithmeticException} instead of wrapping.
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0L ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Converts a decimal amount, rounding to cents with HALF_UP.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public long cents() {
+        return cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Multiplies by {@code numerator / denominator} and rounds the result to cents with HALF_UP.
+     */
+    public Money multiply(long numerator, long denominator) {
+        if (denominator <= 0) {
+            throw new ArithmeticException("Denominator must be positive: " + denominator);
+        }
+        return ofCents(divideHalfUp(Math.multiplyExact(cents, numerator), denominator));
+    }
+
+    /**
+     * Multiplies by a decimal factor (e.g. {@code 1 + interestRate}) and rounds the result to cents with HALF_UP.
+     */
+    public Money multiply(BigDecimal factor) {
+        int scale = factor.scale();
+        if (scale >= 0 && scale < POWERS_OF_TEN.length && factor.precision() <= 18) {
+            try {
+                return multiply(factor.unscaledValue().longValueExact(), POWERS_OF_TEN[scale]);
+            } catch (ArithmeticException overflow) {
+                // fall through to the exact BigDecimal path
+            }
+        }
+        return of(toBigDecimal().multiply(factor));
+    }
+
+    /**
+     * Splits the amount into {@code parts} equal shares, each rounded to cents with HALF_UP.
+     */
+    public Money divide(int parts) {
+        return multiply(1L, parts);
+    }
+
+    public Money max(Money other) {
+        return cents >= other.cents ? this : other;
+    }
+
+    public boolean isZero() {
+        return cents == 0L;
+    }
+
+    public boolean isPositive() {
+        return cents > 0L;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && cents == other.cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) >= divisor - Math.abs(remainder)) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,55 @@
+package com.inghub.loanapi.observability;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets through at most a fixed number of log events per second and drops the rest.
+ * Use it for messages that fire once per item inside a request (e.g. per installment),
+ * so a burst of traffic can't turn them into a flood.
+ * <p>
+ * The window is a plain one-second bucket. At a boundary, a few extra events may get through while threads race
+ * to reset it.
+ */
+public final class LogSampler {
+
+    private final long eventsPerSecond;
+    private final LongSupplier nanoTime;
+    private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong granted = new AtomicLong();
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogSampler(long eventsPerSecond) {
+        this(eventsPerSecond, System::nanoTime);
+    }
+
+    LogSampler(long eventsPerSecond, LongSupplier nanoTime) {
+        if (eventsPerSecond <= 0) {
+            throw new IllegalArgumentException("Sampled events per second must be positive.");
+        }
+        this.eventsPerSecond = eventsPerSecond;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return true if the event may be logged in the current second
+     */
+    public boolean tryAcquire() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(nanoTime.getAsLong());
+        long current = window.get();
+        if (second != current && window.compareAndSet(current, second)) {
+            granted.set(0);
+        }
+        if (granted.incrementAndGet() <= eventsPerSecond) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+}
@@ -0,0 +1,93 @@
+package com.inghub.loanapi.observability;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL work done on behalf of one request: statements sent, rows returned by queries and entities loaded.
+ * <p>
+ * The current instance is bound to the request thread. Work handed to another thread, such as a customer
+ * mailbox lane, is attributed to the same instance through {@link #wrap(Runnable)}, so the counters are
+ * thread-safe.
+ */
+public final class RequestSqlStatistics {
+
+    private static final ThreadLocal<RequestSqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder entityLoads = new LongAdder();
+
+    /**
+     * Starts counting on the calling thread, replacing whatever was bound before.
+     */
+    public static RequestSqlStatistics start() {
+        RequestSqlStatistics statistics = new RequestSqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Binds the caller's statistics, if any, around the task when it runs on another thread.
+     */
+    public static Runnable wrap(Runnable task) {
+        RequestSqlStatistics captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            RequestSqlStatistics previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static void statementPrepared() {
+        RequestSqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements.increment();
+        }
+    }
+
+    static void queryExecuted(int resultRows) {
+        RequestSqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.rows.add(resultRows);
+        }
+    }
+
+    static void entityLoaded() {
+        RequestSqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads.increment();
+        }
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    public long rows() {
+        return rows.sum();
+    }
+
+    public long entityLoads() {
+        return entityLoads.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statements() + ", rows=" + rows() + ", entityLoads=" + entityLoads();
+    }
+}
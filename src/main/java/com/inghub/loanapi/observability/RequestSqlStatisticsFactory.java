@@ -0,0 +1,37 @@
+package com.inghub.loanapi.observability;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Hibernate statistics that also feed query rows and entity loads into the current
+ * {@link RequestSqlStatistics}. Needs {@code hibernate.generate_statistics=true}.
+ */
+public class RequestSqlStatisticsFactory implements StatisticsFactory {
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        return new RequestAwareStatistics(sessionFactory);
+    }
+
+    private static final class RequestAwareStatistics extends StatisticsImpl {
+
+        private RequestAwareStatistics(SessionFactoryImplementor sessionFactory) {
+            super(sessionFactory);
+        }
+
+        @Override
+        public void queryExecuted(String hql, int rows, long time) {
+            super.queryExecuted(hql, rows, time);
+            RequestSqlStatistics.queryExecuted(rows);
+        }
+
+        @Override
+        public void loadEntity(String entityName) {
+            super.loadEntity(entityName);
+            RequestSqlStatistics.entityLoaded();
+        }
+    }
+}
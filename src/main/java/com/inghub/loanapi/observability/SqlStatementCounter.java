@@ -0,0 +1,16 @@
+package com.inghub.loanapi.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares against the current {@link RequestSqlStatistics}.
+ * The SQL is passed through unchanged.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStatistics.statementPrepared();
+        return sql;
+    }
+}
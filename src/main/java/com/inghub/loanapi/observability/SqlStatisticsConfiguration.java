@@ -0,0 +1,42 @@
+package com.inghub.loanapi.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Per-request SQL accounting, switched on with {@code loan.sql-statistics.enabled} (the {@code dev} profile).
+ * It turns on Hibernate statistics, so it stays off in production.
+ */
+@Configuration
+@ConditionalOnProperty(name = "loan.sql-statistics.enabled", havingValue = "true")
+public class SqlStatisticsConfiguration {
+
+    @Bean
+    HibernatePropertiesCustomizer sqlStatisticsHibernateProperties() {
+        return properties -> {
+            properties.put("hibernate.session_factory.statement_inspector", new SqlStatementCounter());
+            properties.put("hibernate.generate_statistics", "true");
+            properties.put("hibernate.stats.factory", new RequestSqlStatisticsFactory());
+        };
+    }
+
+    // Outermost, so the user lookups of the security filters are counted too
+    @Bean
+    FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration = new FilterRegistrationBean<>(new SqlStatisticsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // Attributes mutations run on the customer mailbox lanes to the request that submitted them
+    @Bean
+    TaskDecorator sqlStatisticsTaskDecorator() {
+        return RequestSqlStatistics::wrap;
+    }
+}
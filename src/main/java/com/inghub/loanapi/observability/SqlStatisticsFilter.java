@@ -0,0 +1,65 @@
+package com.inghub.loanapi.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL work of each request, records it as metrics and returns it in response headers.
+ * The response body is buffered so the headers can still be set once the handler is done.
+ */
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String ROWS_HEADER = "X-SQL-Rows";
+    static final String ENTITY_LOADS_HEADER = "X-SQL-Entity-Loads";
+
+    private final DistributionSummary statementsPerRequest;
+    private final DistributionSummary rowsPerRequest;
+    private final DistributionSummary entityLoadsPerRequest;
+
+    public SqlStatisticsFilter(MeterRegistry meterRegistry) {
+        this.statementsPerRequest = DistributionSummary.builder("sql.request.statements")
+                .description("SQL statements per HTTP request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rowsPerRequest = DistributionSummary.builder("sql.request.rows")
+                .description("Query result rows per HTTP request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.entityLoadsPerRequest = DistributionSummary.builder("sql.request.entity.loads")
+                .description("Entities loaded per HTTP request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        RequestSqlStatistics statistics = RequestSqlStatistics.start();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            RequestSqlStatistics.stop();
+            statementsPerRequest.record(statistics.statements());
+            rowsPerRequest.record(statistics.rows());
+            entityLoadsPerRequest.record(statistics.entityLoads());
+            responseWrapper.setHeader(STATEMENTS_HEADER, String.valueOf(statistics.statements()));
+            responseWrapper.setHeader(ROWS_HEADER, String.valueOf(statistics.rows()));
+            responseWrapper.setHeader(ENTITY_LOADS_HEADER, String.valueOf(statistics.entityLoads()));
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.inghub.loanapi.observability;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import java.nio.file.Path;
+
+/**
+ * Tracing wiring on top of Spring Boot's OpenTelemetry auto-configuration. Any {@link SpanExporter} bean receives
+ * the sampled spans.
+ */
+@Configuration
+public class TracingConfiguration {
+
+    // Local span file, e.g. for the dev profile; no collector needed
+    @Bean
+    @ConditionalOnProperty(name = "loan.tracing.file-exporter.path")
+    SpanExporter jsonFileSpanExporter(@Value("${loan.tracing.file-exporter.path}") String path) {
+        return new JsonFileSpanExporter(Path.of(path));
+    }
+
+    // Keeps mutations run on the customer mailbox lanes inside the request's trace
+    @Bean
+    TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+}
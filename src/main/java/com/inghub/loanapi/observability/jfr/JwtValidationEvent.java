@@ -0,0 +1,38 @@
+package com.inghub.loanapi.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Validation of one bearer token, from the signature check to the resolved principal. The subject is left out so
+ * recordings taken on production nodes carry no account data.
+ */
+@Name("com.inghub.loanapi.JwtValidation")
+@Label("JWT Validation")
+@Category({"Loan API", "Security"})
+@Description("Bearer token validated by the authentication filter")
+@StackTrace(false)
+@Getter
+@Setter
+public class JwtValidationEvent extends jdk.jfr.Event {
+
+    public static final String AUTHENTICATED = "AUTHENTICATED";
+    public static final String REJECTED = "REJECTED";
+    public static final String INVALID = "INVALID";
+
+    @Label("Outcome")
+    @Description("AUTHENTICATED, REJECTED (stale, revoked or mismatched claims) or INVALID (bad signature, expired)")
+    private String outcome;
+
+    @Label("Token Id")
+    private String tokenId;
+
+    @Label("Stateless Principal")
+    @Description("Principal built from the token claims instead of the user lookup")
+    private boolean statelessPrincipal;
+}
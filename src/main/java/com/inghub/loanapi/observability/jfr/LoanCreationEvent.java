@@ -0,0 +1,32 @@
+package com.inghub.loanapi.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * One created loan, timed from validation to the flushed inserts. Rejected requests are not committed.
+ */
+@Name("com.inghub.loanapi.LoanCreation")
+@Label("Loan Creation")
+@Category({"Loan API", "Loans"})
+@Description("Loan created with its installment schedule")
+@StackTrace(false)
+@Setter
+public class LoanCreationEvent extends jdk.jfr.Event {
+
+    @Label("Customer Id")
+    private long customerId;
+
+    @Label("Loan Id")
+    private long loanId;
+
+    @Label("Installments")
+    private int numberOfInstallments;
+
+    @Label("Total Amount")
+    private String totalAmount;
+}
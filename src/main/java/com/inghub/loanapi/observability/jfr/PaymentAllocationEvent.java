@@ -0,0 +1,36 @@
+package com.inghub.loanapi.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * One payment spread over the payable installments of a loan, timed from the loan lookup to the credit release.
+ * Rejected payments are not committed.
+ */
+@Name("com.inghub.loanapi.PaymentAllocation")
+@Label("Payment Allocation")
+@Category({"Loan API", "Loans"})
+@Description("Payment allocated to the installments of a loan")
+@StackTrace(false)
+@Setter
+public class PaymentAllocationEvent extends jdk.jfr.Event {
+
+    @Label("Loan Id")
+    private long loanId;
+
+    @Label("Payable Installments")
+    private int installmentsPayable;
+
+    @Label("Installments Paid")
+    private int installmentsPaid;
+
+    @Label("Total Paid")
+    private String totalPaid;
+
+    @Label("Loan Fully Paid")
+    private boolean loanFullyPaid;
+}
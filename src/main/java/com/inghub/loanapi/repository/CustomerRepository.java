@@ -1,6 +1,7 @@
 package com.inghub.loanapi.repository;
 
 import com.inghub.loanapi.entity.Customer;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,8 +19,36 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findById(Long customerId);
 
+    // Every customer with its user, loans and installments, loaded in a single joined select
+    @EntityGraph(attributePaths = {"user", "loans", "loans.installments"})
+    @Query("SELECT c FROM Customer c ORDER BY c.id")
+    List<Customer> findAllWithLoans();
+
+    // Ownership check input; read-write so it reads the primary even when the replica lags
+    @Transactional
+    @Query("SELECT c.id FROM Customer c WHERE c.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Integer userId);
+
+    /**
+     * Adds {@code amount} to the used credit only if the result stays within the credit limit.
+     *
+     * @return 1 if the credit was reserved, 0 if the customer doesn't exist or the limit would be exceeded
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Customer c SET c.usedCreditLimit = c.usedCreditLimit + :amount " +
+            "WHERE c.id = :customerId AND c.usedCreditLimit + :amount <= c.creditLimit")
+    int reserveCredit(@Param("customerId") Long customerId, @Param("amount") BigDecimal amount);
+
+    /**
+     * Subtracts {@code amount} from the used credit, never going below zero.
+     *
+     * @return 1 if the customer exists, otherwise 0
+     */
     @Modifying
     @Transactional
-    @Query("UPDATE Customer c SET c.usedCreditLimit = :usedCredit WHERE c.id = :customerId")
-    void updateUsedCreditLimit(@Param("customerId") Long customerId, @Param("usedCredit") BigDecimal usedCredit);
+    @Query("UPDATE Customer c SET c.usedCreditLimit = " +
+            "CASE WHEN c.usedCreditLimit > :amount THEN c.usedCreditLimit - :amount ELSE 0 END " +
+            "WHERE c.id = :customerId")
+    int releaseCredit(@Param("customerId") Long customerId, @Param("amount") BigDecimal amount);
 }
@@ -1,15 +1,65 @@
 package com.inghub.loanapi.repository;
 
 import com.inghub.loanapi.entity.Loan;
+import com.inghub.loanapi.entity.LoanInstallment;
+import com.inghub.loanapi.repository.projection.LoanInstallmentView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, Long> {
 
-    // List loans for a given customer
-    List<Loan> findByCustomerId(Long customerId);
+    // One page of a customer's loans, filtered in SQL and ordered by id for keyset pagination.
+    // Installments are not loaded; the customer id comes from the foreign key without a join.
+    @Query("SELECT l FROM Loan l WHERE l.customer.id = :customerId " +
+            "AND (:numInstallments IS NULL OR l.numberOfInstallments = :numInstallments) " +
+            "AND (:isPaid IS NULL OR l.isPaid = :isPaid) " +
+            "AND l.id > :afterLoanId " +
+            "ORDER BY l.id")
+    List<Loan> findPageByCustomerId(@Param("customerId") Long customerId,
+                                    @Param("numInstallments") Integer numInstallments,
+                                    @Param("isPaid") Boolean isPaid,
+                                    @Param("afterLoanId") Long afterLoanId,
+                                    Limit limit);
+
+    // The given loans with their installments, loaded in a single joined select
+    @EntityGraph(Loan.WITH_INSTALLMENTS_GRAPH)
+    @Query("SELECT l FROM Loan l WHERE l.id IN :loanIds ORDER BY l.id")
+    List<Loan> findWithInstallmentsByIdIn(@Param("loanIds") Collection<Long> loanIds);
+
+    // Installments of a loan projected into read-only rows, without hydrating entities
+    @Query("SELECT new com.inghub.loanapi.repository.projection.LoanInstallmentView(" +
+            "i.id, i.loan.id, i.installmentNumber, i.amount, i.paidAmount, i.dueDate, i.paymentDate, i.isPaid, i.status) " +
+            "FROM LoanInstallment i WHERE i.loan.id = :loanId ORDER BY i.installmentNumber")
+    List<LoanInstallmentView> findInstallmentViewsByLoanId(@Param("loanId") Long loanId);
+
+    // Unpaid installments of a loan that are due by the given date, oldest first, locked until the payment commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM LoanInstallment i WHERE i.loan.id = :loanId AND i.isPaid = false " +
+            "AND i.dueDate <= :latestDueDate ORDER BY i.dueDate, i.installmentNumber")
+    List<LoanInstallment> findPayableInstallmentsForUpdate(@Param("loanId") Long loanId,
+                                                           @Param("latestDueDate") LocalDate latestDueDate);
+
+    // Whether a loan still has unpaid installments due after the given date
+    @Query("SELECT COUNT(i) > 0 FROM LoanInstallment i WHERE i.loan.id = :loanId AND i.isPaid = false " +
+            "AND i.dueDate > :dueDate")
+    boolean existsUnpaidInstallmentDueAfter(@Param("loanId") Long loanId, @Param("dueDate") LocalDate dueDate);
+
+    // Owner of a loan, without loading the loan; read-write so it reads the primary and sees a loan just created
+    @Transactional
+    @Query("SELECT l.customer.id FROM Loan l WHERE l.id = :loanId")
+    Optional<Long> findCustomerIdById(@Param("loanId") Long loanId);
 
 }
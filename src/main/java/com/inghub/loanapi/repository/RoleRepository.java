@@ -1,8 +1,12 @@
 package com.inghub.loanapi.repository;
 
 
+import com.inghub.loanapi.cache.CacheRegions;
 import com.inghub.loanapi.entity.Role;
 import com.inghub.loanapi.enums.RoleEnum;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,5 +14,11 @@ import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends CrudRepository<Role, Integer> {
+
+    // Served from the query cache; the role itself comes from the read-only roles region
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ROLE_QUERIES)
+    })
     Optional<Role> findByName(RoleEnum name);
 }
@@ -2,12 +2,39 @@ package com.inghub.loanapi.repository;
 
 
 import com.inghub.loanapi.entity.User;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends CrudRepository<User, Integer> {
+
+    // The lookups behind authentication are read-write, so they read the primary and never a lagging replica
+    @Transactional
     Optional<User> findByEmail(String email);
+
+    // Users whose tokens were revoked at least once, as (id, tokenVersion) pairs
+    @Transactional
+    @Query("SELECT u.id, u.tokenVersion FROM User u WHERE u.tokenVersion > 0")
+    List<Object[]> findRevokedTokenVersions();
+
+    @Transactional
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :userId")
+    Optional<Integer> findTokenVersionById(@Param("userId") Integer userId);
+
+    /**
+     * Invalidates every token issued to the user so far.
+     *
+     * @return 1 if the user exists, otherwise 0
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    int incrementTokenVersion(@Param("userId") Integer userId);
 }
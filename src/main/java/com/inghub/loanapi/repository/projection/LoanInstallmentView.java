@@ -0,0 +1,21 @@
+package com.inghub.loanapi.repository.projection;
+
+import com.inghub.loanapi.enums.InstallmentStatus;
+import com.inghub.loanapi.money.Money;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only installment row selected straight from the table, for listings that don't need managed entities.
+ */
+public record LoanInstallmentView(
+        Long installmentId,
+        Long loanId,
+        Integer installmentNumber,
+        Money amount,
+        Money paidAmount,
+        LocalDate dueDate,
+        LocalDate paymentDate,
+        Boolean isPaid,
+        InstallmentStatus status) {
+}
@@ -0,0 +1,12 @@
+package com.inghub.loanapi.security;
+
+import java.lang.annotation.*;
+
+/**
+ * Restricts a handler method to admins. Checked by {@link OwnershipAuthorizationManager}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AdminOnly {
+}
@@ -0,0 +1,20 @@
+package com.inghub.loanapi.security;
+
+import java.lang.annotation.*;
+
+/**
+ * Allows admins, and customers that own the resource identified by the named handler parameter.
+ * Checked by {@link OwnershipAuthorizationManager}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AdminOrOwner {
+
+    OwnedResource resource();
+
+    /**
+     * Name of the handler method parameter holding the resource id.
+     */
+    String parameter();
+}
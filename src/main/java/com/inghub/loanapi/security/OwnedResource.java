@@ -0,0 +1,11 @@
+package com.inghub.loanapi.security;
+
+/**
+ * Kind of id an {@link AdminOrOwner} parameter carries, which decides how its owning customer is found.
+ */
+public enum OwnedResource {
+    /** The parameter is the customer id itself. */
+    CUSTOMER,
+    /** The parameter is a loan id, owned by the loan's customer. */
+    LOAN
+}
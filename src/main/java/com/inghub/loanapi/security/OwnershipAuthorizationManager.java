@@ -0,0 +1,174 @@
+package com.inghub.loanapi.security;
+
+import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.enums.RoleEnum;
+import com.inghub.loanapi.service.JwtPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Method authorization for {@link AdminOnly} and {@link AdminOrOwner} handlers.
+ * <p>
+ * Each annotated controller method is compiled once at startup into a {@link Rule}: the roles allowed outright
+ * as a bitmask, and for ownership checks the resource kind and argument index. A check then only compares
+ * role bits and ids; loan ownership goes through the cached {@link OwnershipResolver}.
+ */
+@Slf4j
+@Component
+public class OwnershipAuthorizationManager implements AuthorizationManager<MethodInvocation>, SmartInitializingSingleton {
+
+    private static final int ADMIN = roleBit(RoleEnum.ADMIN);
+    private static final int CUSTOMER = roleBit(RoleEnum.CUSTOMER);
+    private static final Map<String, Integer> AUTHORITY_BITS = Arrays.stream(RoleEnum.values())
+            .collect(Collectors.toUnmodifiableMap(role -> "ROLE_" + role, OwnershipAuthorizationManager::roleBit));
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<Method, Rule> rules = new ConcurrentHashMap<>();
+    private final OwnershipResolver ownershipResolver;
+    private final ApplicationContext applicationContext;
+
+    public OwnershipAuthorizationManager(OwnershipResolver ownershipResolver, ApplicationContext applicationContext) {
+        this.ownershipResolver = ownershipResolver;
+        this.applicationContext = applicationContext;
+    }
+
+    // Compiles every annotated handler up front, so a wrong parameter name fails the startup
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanNamesForAnnotation(Controller.class)) {
+            Class<?> type = applicationContext.getType(beanName);
+            if (type == null) {
+                continue;
+            }
+            MethodIntrospector.selectMethods(ClassUtils.getUserClass(type),
+                            (MethodIntrospector.MetadataLookup<Rule>) OwnershipAuthorizationManager::compileIfAnnotated)
+                    .forEach(rules::put);
+        }
+        log.info("Compiled {} ownership authorization rules", rules.size());
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        Rule rule = rules.get(method);
+        if (rule == null) {
+            Class<?> targetClass = invocation.getThis() == null ? method.getDeclaringClass() : AopUtils.getTargetClass(invocation.getThis());
+            rule = rules.computeIfAbsent(AopUtils.getMostSpecificMethod(method, targetClass), OwnershipAuthorizationManager::compile);
+        }
+        Authentication current = authentication.get();
+        if (current == null || !current.isAuthenticated()) {
+            return DENIED;
+        }
+        return permits(rule, current, invocation.getArguments()) ? GRANTED : DENIED;
+    }
+
+    private boolean permits(Rule rule, Authentication authentication, Object[] arguments) {
+        int roles = roleBits(authentication);
+        if ((roles & rule.allowedRoles()) != 0) {
+            return true;
+        }
+        if (rule.resource() == null || (roles & CUSTOMER) == 0) {
+            return false;
+        }
+
+        Long callerCustomerId = customerIdOf(authentication.getPrincipal());
+        if (callerCustomerId == null) {
+            return false;
+        }
+        Long resourceId = (Long) arguments[rule.parameterIndex()];
+        Long ownerCustomerId = switch (rule.resource()) {
+            case CUSTOMER -> resourceId;
+            case LOAN -> ownershipResolver.customerIdOfLoan(resourceId);
+        };
+        return callerCustomerId.equals(ownerCustomerId);
+    }
+
+    // Known principals carry their role directly; anything else falls back to its authorities
+    private static int roleBits(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return roleBit(jwtPrincipal.getRole());
+        }
+        if (principal instanceof User user && user.getRole() != null) {
+            return roleBit(user.getRole().getName());
+        }
+        int bits = 0;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            bits |= AUTHORITY_BITS.getOrDefault(authority.getAuthority(), 0);
+        }
+        return bits;
+    }
+
+    private Long customerIdOf(Object principal) {
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.getCustomerId();
+        }
+        if (principal instanceof User user) {
+            return ownershipResolver.customerIdOfUser(user.getId());
+        }
+        return null;
+    }
+
+    private static Rule compileIfAnnotated(Method method) {
+        boolean annotated = AnnotatedElementUtils.hasAnnotation(method, AdminOnly.class)
+                || AnnotatedElementUtils.hasAnnotation(method, AdminOrOwner.class);
+        return annotated ? compile(method) : null;
+    }
+
+    static Rule compile(Method method) {
+        AdminOrOwner ownerAccess = AnnotatedElementUtils.findMergedAnnotation(method, AdminOrOwner.class);
+        if (ownerAccess == null) {
+            if (!AnnotatedElementUtils.hasAnnotation(method, AdminOnly.class)) {
+                throw new IllegalStateException("No authorization annotation on " + method);
+            }
+            return new Rule(ADMIN, null, -1);
+        }
+
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].getName().equals(ownerAccess.parameter())) {
+                if (parameters[i].getType() != Long.class) {
+                    throw new IllegalStateException("Ownership parameter '" + ownerAccess.parameter() + "' of " + method + " must be a Long");
+                }
+                return new Rule(ADMIN, ownerAccess.resource(), i);
+            }
+        }
+        throw new IllegalStateException("No parameter named '" + ownerAccess.parameter() + "' on " + method);
+    }
+
+    private static int roleBit(RoleEnum role) {
+        return 1 << role.ordinal();
+    }
+
+    /**
+     * Compiled check of one handler method.
+     *
+     * @param allowedRoles   bitmask of roles granted without an ownership check
+     * @param resource       kind of owned resource, or {@code null} when there is no ownership check
+     * @param parameterIndex index of the argument holding the resource id
+     */
+    record Rule(int allowedRoles, OwnedResource resource, int parameterIndex) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.inghub.loanapi.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.inghub.loanapi.repository.CustomerRepository;
+import com.inghub.loanapi.repository.LoanRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cached lookups of who owns what, for the ownership checks.
+ * <p>
+ * A loan never changes customer, so loan owners are only evicted by size. The customer of a user is kept for
+ * the configured TTL. Missing ids are not cached, so a customer created for a user is seen on the next check.
+ */
+@Slf4j
+@Component
+public class OwnershipResolver implements MeterBinder {
+
+    private final LoadingCache<Long, Long> loanOwners;
+    private final LoadingCache<Integer, Long> userCustomers;
+
+    @Autowired
+    public OwnershipResolver(
+            LoanRepository loanRepository,
+            CustomerRepository customerRepository,
+            @Value("${security.ownership-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.ownership-cache.ttl:300000}") long ttlMillis
+    ) {
+        this(loanRepository::findCustomerIdById, customerRepository::findIdByUserId, maximumSize, ttlMillis);
+    }
+
+    OwnershipResolver(
+            Function<Long, Optional<Long>> loanOwnerLookup,
+            Function<Integer, Optional<Long>> userCustomerLookup,
+            long maximumSize,
+            long ttlMillis
+    ) {
+        if (maximumSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Ownership cache size and TTL must be positive.");
+        }
+        this.loanOwners = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build(loanId -> loanOwnerLookup.apply(loanId).orElse(null));
+        this.userCustomers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build(userId -> userCustomerLookup.apply(userId).orElse(null));
+        log.info("Ownership cache started with maximum size {} and TTL {} ms", maximumSize, ttlMillis);
+    }
+
+    /**
+     * @return the customer owning the loan, or {@code null} if the loan doesn't exist
+     */
+    public Long customerIdOfLoan(Long loanId) {
+        return loanId == null ? null : loanOwners.get(loanId);
+    }
+
+    /**
+     * @return the customer record of the user, or {@code null} if the user has none
+     */
+    public Long customerIdOfUser(Integer userId) {
+        return userId == null ? null : userCustomers.get(userId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, loanOwners, "loan-owners");
+        CaffeineCacheMetrics.monitor(registry, userCustomers, "user-customers");
+    }
+}
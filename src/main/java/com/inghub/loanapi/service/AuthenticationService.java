@@ -3,10 +3,12 @@ package com.inghub.loanapi.service;
 
 import com.inghub.loanapi.dto.LoginUserDto;
 import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.repository.CustomerRepository;
 import com.inghub.loanapi.repository.RoleRepository;
 import com.inghub.loanapi.repository.UserRepository;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -14,30 +16,42 @@ import org.springframework.stereotype.Service;
 public class AuthenticationService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
+    private final CustomerRepository customerRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
 
     public AuthenticationService(
             UserRepository userRepository,
             RoleRepository roleRepository,
+            CustomerRepository customerRepository,
             AuthenticationManager authenticationManager,
             PasswordEncoder passwordEncoder
     ) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
+        this.customerRepository = customerRepository;
         this.passwordEncoder = passwordEncoder;
     }
 
+    // The provider already loaded the user to check the password; reuse it instead of querying again
     public User authenticate(LoginUserDto input) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         input.getEmail(),
                         input.getPassword()
                 )
         );
 
-        return userRepository.findByEmail(input.getEmail()).orElseThrow();
+        if (authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+        return userRepository.findByEmail(authentication.getName()).orElseThrow();
+    }
+
+    // Customer record owned by the user, if any; signed into the token
+    public Long findCustomerId(User user) {
+        return customerRepository.findIdByUserId(user.getId()).orElse(null);
     }
 
 }
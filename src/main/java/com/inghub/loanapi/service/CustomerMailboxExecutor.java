@@ -0,0 +1,173 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.exception.MutationRejectedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs mutations on a fixed set of single-threaded lanes, sharded by customer id.
+ * <p>
+ * All mutations of one customer land on the same lane and run strictly in submission order,
+ * while customers on different lanes run in parallel. Each lane has a bounded mailbox; when it is
+ * full the mutation is rejected with {@link MutationRejectedException} instead of queueing unbounded.
+ * A mutation still waiting in the mailbox after the timeout is withdrawn and rejected the same way,
+ * so a stuck lane can't hold request threads for longer than that.
+ * <p>
+ * Any {@link TaskDecorator} beans wrap each mutation, so request-bound context follows it onto the lane.
+ */
+@Slf4j
+@Component
+public class CustomerMailboxExecutor implements DisposableBean, MeterBinder {
+
+    private final ThreadPoolExecutor[] lanes;
+    private final List<TaskDecorator> taskDecorators;
+    private final long timeoutMillis;
+    private final LongAdder rejected = new LongAdder();
+
+    public CustomerMailboxExecutor(int laneCount, int capacity, long timeoutMillis) {
+        this(laneCount, capacity, timeoutMillis, List.of());
+    }
+
+    @Autowired
+    public CustomerMailboxExecutor(
+            @Value("${loan.mailbox.lanes:16}") int laneCount,
+            @Value("${loan.mailbox.capacity:32}") int capacity,
+            @Value("${loan.mailbox.timeout:5000}") long timeoutMillis,
+            ObjectProvider<TaskDecorator> taskDecorators
+    ) {
+        this(laneCount, capacity, timeoutMillis, taskDecorators.orderedStream().toList());
+    }
+
+    private CustomerMailboxExecutor(int laneCount, int capacity, long timeoutMillis, List<TaskDecorator> taskDecorators) {
+        if (laneCount <= 0 || capacity <= 0 || timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Mailbox lanes, capacity and timeout must be positive.");
+        }
+        this.taskDecorators = taskDecorators;
+        this.timeoutMillis = timeoutMillis;
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(capacity),
+                    new CustomizableThreadFactory("customer-mailbox-" + i + "-"),
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+        log.info("Customer mailbox executor started with {} lanes of capacity {} and timeout {} ms", laneCount, capacity, timeoutMillis);
+    }
+
+    /**
+     * Runs the mutation on the customer's lane and waits for its result.
+     * Runtime exceptions thrown by the mutation are rethrown unchanged to the caller.
+     */
+    public <T> T execute(Long customerId, Supplier<T> mutation) {
+        FutureTask<T> future = new FutureTask<>(mutation::get);
+        ThreadPoolExecutor lane = laneFor(customerId);
+        Runnable task = decorate(future);
+        try {
+            lane.execute(task);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            log.warn("Mailbox full, rejecting mutation for customerId: {}", customerId);
+            throw new MutationRejectedException("Too many pending operations for this customer, please retry later.", ex);
+        }
+
+        try {
+            return awaitResult(future, lane, task, customerId);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Mutation failed for customerId: " + customerId, cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for customerId: " + customerId, ex);
+        }
+    }
+
+    // A mutation already running is waited for, since its outcome is no longer up to the caller
+    private <T> T awaitResult(FutureTask<T> future, ThreadPoolExecutor lane, Runnable task, Long customerId)
+            throws ExecutionException, InterruptedException {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            if (!lane.remove(task)) {
+                return future.get();
+            }
+            future.cancel(false);
+            rejected.increment();
+            log.warn("Mailbox wait timed out after {} ms, rejecting mutation for customerId: {}", timeoutMillis, customerId);
+            throw new MutationRejectedException("Operations for this customer are taking too long, please retry later.", ex);
+        }
+    }
+
+    private Runnable decorate(Runnable task) {
+        Runnable decorated = task;
+        for (TaskDecorator decorator : taskDecorators) {
+            decorated = decorator.decorate(decorated);
+        }
+        return decorated;
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    public int queueDepth(int lane) {
+        return lanes[lane].getQueue().size();
+    }
+
+    public int totalQueueDepth() {
+        int depth = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            depth += lane.getQueue().size();
+        }
+        return depth;
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    int laneIndex(Long customerId) {
+        return Math.floorMod(Long.hashCode(customerId), lanes.length);
+    }
+
+    private ThreadPoolExecutor laneFor(Long customerId) {
+        return lanes[laneIndex(customerId)];
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("loan.mailbox.queue.depth", this, CustomerMailboxExecutor::totalQueueDepth)
+                .description("Mutations waiting in all customer mailboxes")
+                .register(registry);
+        FunctionCounter.builder("loan.mailbox.rejected", this, CustomerMailboxExecutor::rejectedCount)
+                .description("Mutations rejected because the mailbox was full or the wait timed out")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
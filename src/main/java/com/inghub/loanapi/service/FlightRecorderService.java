@@ -0,0 +1,159 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.dto.FlightRecordingResponse;
+import com.inghub.loanapi.exception.FlightRecordingStateException;
+import com.inghub.loanapi.exception.InvalidRecordingParameterException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Runs one on-demand Flight Recorder recording in this JVM. Every recording stops by itself after its duration,
+ * which is capped by {@code loan.jfr.max-duration}, and its on-disk chunks are capped by {@code loan.jfr.max-size}.
+ * A stopped recording is kept, so it can still be dumped, until the next one is started.
+ */
+@Slf4j
+@Service
+public class FlightRecorderService implements DisposableBean {
+
+    // The configurations shipped with the JDK: "default" is the continuous low-overhead set, "profile" adds sampling
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+    private static final String RECORDING_NAME = "loanapi-on-demand";
+
+    private final long maxDurationMillis;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+    private String recordingSettings;
+
+    public FlightRecorderService(
+            @Value("${loan.jfr.max-duration:600000}") long maxDurationMillis,
+            @Value("${loan.jfr.max-size:104857600}") long maxSizeBytes
+    ) {
+        this.maxDurationMillis = maxDurationMillis;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Starts a recording with the given JDK settings, replacing a stopped one.
+     *
+     * @throws FlightRecordingStateException when a recording is still running
+     */
+    public synchronized FlightRecordingResponse start(long durationMillis, String settings) {
+        if (durationMillis < 1 || durationMillis > maxDurationMillis) {
+            throw new InvalidRecordingParameterException(
+                    "Recording duration must be between 1 and " + maxDurationMillis + " milliseconds.");
+        }
+        if (!SETTINGS.contains(settings)) {
+            throw new InvalidRecordingParameterException("Recording settings must be one of " + SETTINGS + ".");
+        }
+        if (isRunning()) {
+            throw new FlightRecordingStateException("A recording is already running.");
+        }
+        closeRecording();
+
+        Recording started = new Recording(loadConfiguration(settings));
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setDuration(Duration.ofMillis(durationMillis));
+        started.setMaxSize(maxSizeBytes);
+        started.start();
+
+        recording = started;
+        recordingSettings = settings;
+        log.info("Started flight recording {} with '{}' settings for {} ms", started.getId(), settings, durationMillis);
+        return status();
+    }
+
+    /**
+     * Stops the running recording before its duration is up; its data stays available for {@link #dump()}.
+     *
+     * @throws FlightRecordingStateException when no recording is running
+     */
+    public synchronized FlightRecordingResponse stop() {
+        if (!isRunning()) {
+            throw new FlightRecordingStateException("No recording is running.");
+        }
+        recording.stop();
+        log.info("Stopped flight recording {}", recording.getId());
+        return status();
+    }
+
+    /**
+     * Writes the recorded data to a new temporary file; the caller owns the file and deletes it. A running recording
+     * keeps recording.
+     *
+     * @throws FlightRecordingStateException when nothing has been recorded
+     */
+    public synchronized Path dump() {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new FlightRecordingStateException("No recording to dump.");
+        }
+        try {
+            Path file = Files.createTempFile("loanapi-", ".jfr");
+            recording.dump(file);
+            log.info("Dumped flight recording {} to {}", recording.getId(), file);
+            return file;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not dump recording " + recording.getId(), ex);
+        }
+    }
+
+    /**
+     * @return the current recording, or {@code null} when none has been started
+     */
+    public synchronized FlightRecordingResponse status() {
+        if (recording == null) {
+            return null;
+        }
+        Duration duration = recording.getDuration();
+        return FlightRecordingResponse.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .settings(recordingSettings)
+                .startTime(recording.getStartTime())
+                .stopTime(recording.getStopTime())
+                .durationMillis(duration == null ? null : duration.toMillis())
+                .maxSizeBytes(recording.getMaxSize())
+                .sizeBytes(recording.getSize())
+                .build();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeRecording();
+    }
+
+    private boolean isRunning() {
+        return recording != null
+                && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static Configuration loadConfiguration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("Could not load the '" + settings + "' recording settings", ex);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.enums.RoleEnum;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Principal built straight from signed token claims, without loading the {@link User}.
+ * It exposes the same {@code id} and authorities as the entity, plus the customer id used by the ownership checks.
+ */
+@Getter
+public class JwtPrincipal implements UserDetails {
+
+    static final String USER_ID_CLAIM = "uid";
+    static final String CUSTOMER_ID_CLAIM = "cid";
+    static final String ROLE_CLAIM = "role";
+    static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final Integer id;
+    private final Long customerId;
+    private final String username;
+    private final RoleEnum role;
+    private final int tokenVersion;
+    private final List<GrantedAuthority> authorities;
+
+    JwtPrincipal(Integer id, Long customerId, String username, RoleEnum role, int tokenVersion) {
+        this.id = id;
+        this.customerId = customerId;
+        this.username = username;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    /**
+     * Claims to sign into a user's token so it can later be turned back into a principal.
+     */
+    static Map<String, Object> claimsOf(User user, Long customerId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRole().getName().name());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        if (customerId != null) {
+            claims.put(CUSTOMER_ID_CLAIM, customerId);
+        }
+        return claims;
+    }
+
+    public static boolean isPresentIn(Claims claims) {
+        return claims.get(USER_ID_CLAIM) != null && claims.get(ROLE_CLAIM) != null;
+    }
+
+    public static JwtPrincipal fromClaims(Claims claims) {
+        Number customerId = claims.get(CUSTOMER_ID_CLAIM, Number.class);
+        return new JwtPrincipal(
+                claims.get(USER_ID_CLAIM, Number.class).intValue(),
+                customerId == null ? null : customerId.longValue(),
+                claims.getSubject(),
+                RoleEnum.valueOf(claims.get(ROLE_CLAIM, String.class)),
+                tokenVersionOf(claims));
+    }
+
+    // Tokens issued before versioning count as version 0
+    public static int tokenVersionOf(Claims claims) {
+        Number version = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        return version == null ? 0 : version.intValue();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+}
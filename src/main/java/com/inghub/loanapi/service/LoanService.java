@@ -7,7 +7,10 @@ import java.util.List;
 public interface LoanService {
     LoanResponse createLoan(LoanRequest createLoanRequest);
 
-    List<LoanResponse> listLoans(Long customerId, Integer numInstallments, Boolean isPaid);
+    LoanBatchResponse createLoans(List<LoanRequest> createLoanRequests);
+
+    List<LoanResponse> listLoans(Long customerId, Integer numInstallments, Boolean isPaid, Long afterLoanId, int limit,
+                                 boolean includeInstallments);
 
     List<InstallmentResponse> listInstallmentsForLoan(Long loanId);
 
@@ -0,0 +1,143 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing and verification on a fixed-size pool with a bounded queue.
+ * <p>
+ * BCrypt is deliberately slow, so a login burst on the request threads would starve every other endpoint.
+ * Here at most {@code threads} hashes run at once and at most {@code queue-capacity} wait; anything beyond
+ * that is rejected at once with {@link PasswordHashingRejectedException} (503).
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean, MeterBinder {
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHashingExecutor(
+            @Value("${security.password-hashing.threads:4}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity
+    ) {
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Password hashing threads and queue capacity must be positive.");
+        }
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing executor started with {} threads and queue capacity {}", threads, queueCapacity);
+    }
+
+    /**
+     * Runs the hashing task on the pool and waits for its result.
+     * Runtime exceptions thrown by the task are rethrown unchanged to the caller.
+     */
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(task));
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            log.warn("Password hashing queue full, rejecting request");
+            throw new PasswordHashingRejectedException("Too many concurrent sign-ins, please retry later.", ex);
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        }
+    }
+
+    private <T> T timed(Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            hashCount.increment();
+            hashNanos.add(elapsed);
+            maxHashNanos.accumulate(elapsed);
+        }
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public long hashCount() {
+        return hashCount.sum();
+    }
+
+    public long totalHashNanos() {
+        return hashNanos.sum();
+    }
+
+    public long maxHashNanos() {
+        return maxHashNanos.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("password.hashing", this, PasswordHashingExecutor::hashCount,
+                        PasswordHashingExecutor::totalHashNanos, TimeUnit.NANOSECONDS)
+                .description("Password hashes and verifications")
+                .register(registry);
+        TimeGauge.builder("password.hashing.max", this, TimeUnit.NANOSECONDS, PasswordHashingExecutor::maxHashNanos)
+                .description("Slowest password hash so far")
+                .register(registry);
+        Gauge.builder("password.hashing.queue.depth", this, PasswordHashingExecutor::queueDepth)
+                .description("Password hashes waiting for a thread")
+                .register(registry);
+        Gauge.builder("password.hashing.active", this, PasswordHashingExecutor::activeCount)
+                .description("Password hashes running")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", this, PasswordHashingExecutor::rejectedCount)
+                .description("Password hashes rejected because the queue was full")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
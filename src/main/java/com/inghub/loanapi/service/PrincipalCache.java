@@ -0,0 +1,124 @@
+package com.inghub.loanapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.inghub.loanapi.entity.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the principals resolved for bearer tokens, so repeated requests with the same token
+ * skip the user lookup.
+ * <p>
+ * Entries are keyed by token subject and issued-at, evicted by size, and expire after the configured TTL
+ * or when the token expires, whichever comes first. Changes to users or roles invalidate them through
+ * {@link PrincipalCacheInvalidator}.
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MeterBinder {
+
+    private final Cache<TokenKey, CachedPrincipal> cache;
+    private final Ticker ticker;
+    private final long ttlNanos;
+
+    @Autowired
+    public PrincipalCache(
+            @Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.principal-cache.ttl:300000}") long ttlMillis
+    ) {
+        this(maximumSize, ttlMillis, Ticker.systemTicker());
+    }
+
+    PrincipalCache(long maximumSize, long ttlMillis, Ticker ticker) {
+        if (maximumSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Principal cache size and TTL must be positive.");
+        }
+        this.ticker = ticker;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new DeadlineExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        log.info("Principal cache started with maximum size {} and TTL {} ms", maximumSize, ttlMillis);
+    }
+
+    /**
+     * Returns the cached principal for the verified token claims, loading it on a miss.
+     */
+    public UserDetails get(Claims claims, Supplier<UserDetails> loader) {
+        if (claims.getIssuedAt() == null || claims.getExpiration() == null) {
+            return loader.get();
+        }
+        TokenKey key = new TokenKey(claims.getSubject(), claims.getIssuedAt().getTime());
+        long tokenExpiresInNanos = TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime() - System.currentTimeMillis());
+        return cache.get(key, k -> new CachedPrincipal(loader.get(), ticker.read() + Math.min(ttlNanos, tokenExpiresInNanos)))
+                .userDetails();
+    }
+
+    /**
+     * Drops every cached principal of the given user, matched by id or username.
+     */
+    public void invalidateUser(Integer userId, String username) {
+        cache.asMap().entrySet().removeIf(entry -> entry.getKey().subject().equals(username)
+                || (userId != null && entry.getValue().userDetails() instanceof User user && Objects.equals(user.getId(), userId)));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "principals");
+    }
+
+    record TokenKey(String subject, long issuedAtMillis) {
+    }
+
+    record CachedPrincipal(UserDetails userDetails, long deadlineNanos) {
+    }
+
+    // Each entry lives until its own deadline: the TTL or the token expiry, whichever is earlier
+    private static final class DeadlineExpiry implements Expiry<TokenKey, CachedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(TokenKey key, CachedPrincipal value, long currentTime) {
+            return Math.max(0, value.deadlineNanos() - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenKey key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenKey key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.entity.Role;
+import com.inghub.loanapi.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener on {@link User} and {@link Role} that evicts cached principals once a change is committed.
+ * Evicting at flush time would let a concurrent login reload and cache the old rows for the whole TTL.
+ * A user change evicts that user; a role change evicts everyone, since any principal may carry the role.
+ * A new or renamed user is also dropped from the {@link UnknownUserCache}.
+ * The caches are optional so repository slices without them still boot.
+ */
+@Component
+public class PrincipalCacheInvalidator {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+    private final ObjectProvider<UnknownUserCache> unknownUserCache;
+
+    public PrincipalCacheInvalidator(ObjectProvider<PrincipalCache> principalCache, ObjectProvider<UnknownUserCache> unknownUserCache) {
+        this.principalCache = principalCache;
+        this.unknownUserCache = unknownUserCache;
+    }
+
+    @PostPersist
+    public void onCreate(Object entity) {
+        if (entity instanceof User user) {
+            String username = user.getUsername();
+            afterCommit(() -> unknownUserCache.ifAvailable(cache -> cache.forget(username)));
+        }
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof User user) {
+            Integer userId = user.getId();
+            String username = user.getUsername();
+            afterCommit(() -> {
+                principalCache.ifAvailable(cache -> cache.invalidateUser(userId, username));
+                unknownUserCache.ifAvailable(cache -> cache.forget(username));
+            });
+        } else if (entity instanceof Role) {
+            afterCommit(() -> principalCache.ifAvailable(PrincipalCache::invalidateAll));
+        }
+    }
+
+    // Without a Spring-managed transaction there is no commit to wait for
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.entity.RevokedToken;
+import com.inghub.loanapi.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of the individually revoked tokens, so the per-request check needs no database lookup.
+ * <p>
+ * A Bloom filter answers "not revoked" for nearly every token; only its rare hits are confirmed against the
+ * exact set. Both are refreshed incrementally from the revocation table, so revocations made by other
+ * instances show up within one refresh interval. Each refresh re-reads an overlap window before the latest
+ * revocation seen, since a revocation can commit after a later one has already been read.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry implements MeterBinder {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedRevocations;
+    private final Duration refreshOverlap;
+    private final Clock clock;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile TokenBloomFilter filter;
+    private volatile Instant lastSeenRevokedAt;
+
+    @Autowired
+    public TokenRevocationRegistry(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${security.token-revocation.expected-revocations:10000}") int expectedRevocations,
+            @Value("${security.token-revocation.refresh-overlap:60000}") long refreshOverlapMillis
+    ) {
+        this(revokedTokenRepository, expectedRevocations, Duration.ofMillis(refreshOverlapMillis), Clock.systemUTC());
+    }
+
+    TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository, int expectedRevocations,
+                            Duration refreshOverlap, Clock clock) {
+        if (expectedRevocations <= 0) {
+            throw new IllegalArgumentException("Expected revocations must be positive.");
+        }
+        if (refreshOverlap.isNegative()) {
+            throw new IllegalArgumentException("Refresh overlap cannot be negative.");
+        }
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.refreshOverlap = refreshOverlap;
+        this.clock = clock;
+        this.filter = new TokenBloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    void load() {
+        refresh();
+        log.info("Loaded {} revoked tokens", revoked.size());
+    }
+
+    /**
+     * Whether the token was revoked individually. Tokens without an id can only be revoked per user.
+     */
+    public boolean isRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        return tokenId != null && filter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    public void add(String tokenId, Instant expiresAt) {
+        revoked.put(tokenId, expiresAt);
+        filter.put(tokenId);
+    }
+
+    /**
+     * Picks up revocations added since the last refresh, by any instance. Rows committed up to the overlap
+     * after their revocation time are still picked up; re-reading the rows already known is harmless.
+     */
+    @Scheduled(fixedDelayString = "${security.token-revocation.refresh-interval:5000}")
+    public void refresh() {
+        Instant since = lastSeenRevokedAt == null ? Instant.EPOCH : lastSeenRevokedAt.minus(refreshOverlap);
+        for (RevokedToken revokedToken : revokedTokenRepository.findActiveRevokedSince(since, clock.instant())) {
+            add(revokedToken.getTokenId(), revokedToken.getExpiresAt());
+            if (lastSeenRevokedAt == null || revokedToken.getRevokedAt().isAfter(lastSeenRevokedAt)) {
+                lastSeenRevokedAt = revokedToken.getRevokedAt();
+            }
+        }
+    }
+
+    /**
+     * Drops revocations of tokens that have expired on their own, and rebuilds the filter without them.
+     */
+    @Scheduled(fixedDelayString = "${security.token-revocation.purge-interval:3600000}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        TokenBloomFilter rebuilt = new TokenBloomFilter(Math.max(expectedRevocations, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        // Tokens added to the old filter while this one was built are in the set by now
+        revoked.keySet().forEach(rebuilt::put);
+        log.info("Purged {} expired token revocations, {} remain", deleted, revoked.size());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.revoked.tokens", this, TokenRevocationRegistry::size)
+                .description("Individually revoked tokens not yet expired")
+                .register(registry);
+    }
+}
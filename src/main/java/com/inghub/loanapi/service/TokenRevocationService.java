@@ -0,0 +1,70 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.entity.RevokedToken;
+import com.inghub.loanapi.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Revokes single tokens by their id: records them in the revocation table and in the local
+ * {@link TokenRevocationRegistry}, so this instance rejects them at once.
+ * <p>
+ * Revoking is idempotent. The insert runs in its own repository transaction, so when a concurrent revocation of
+ * the same token wins the unique key, the duplicate is dropped without failing the caller.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final long jwtExpiration;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            @Value("${security.jwt.expiration-time}") long jwtExpiration
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.jwtExpiration = jwtExpiration;
+    }
+
+    /**
+     * Revokes the token the claims were read from. Tokens without an id are left alone.
+     */
+    public void logout(Claims claims) {
+        if (claims.getId() == null) {
+            log.warn("Logout with a token without an id for user: {}", claims.getSubject());
+            return;
+        }
+        revoke(claims.getId(), claims.getExpiration().toInstant());
+    }
+
+    /**
+     * Revokes a token known only by its id; it is kept until the longest possible token lifetime has passed.
+     */
+    public void revoke(String tokenId) {
+        revoke(tokenId, Instant.now().plusMillis(jwtExpiration));
+    }
+
+    private void revoke(String tokenId, Instant expiresAt) {
+        if (!revokedTokenRepository.existsByTokenId(tokenId)) {
+            try {
+                revokedTokenRepository.save(new RevokedToken(null, tokenId, expiresAt, Instant.now()));
+                log.info("Revoked token: {}", tokenId);
+            } catch (DataIntegrityViolationException ex) {
+                if (!revokedTokenRepository.existsByTokenId(tokenId)) {
+                    throw ex;
+                }
+                log.debug("Token {} was revoked concurrently", tokenId);
+            }
+        }
+        tokenRevocationRegistry.add(tokenId, expiresAt);
+    }
+}
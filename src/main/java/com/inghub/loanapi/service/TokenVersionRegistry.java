@@ -0,0 +1,68 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of the users' current token versions, so token checks need no database lookup.
+ * Only users that were ever revoked are tracked; everyone else is at version 0. The view is reloaded from the
+ * users table on an interval, so revocations made by other instances show up within one refresh interval.
+ */
+@Slf4j
+@Component
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final Map<Integer, Integer> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    void load() {
+        refresh();
+        log.info("Loaded token versions of {} users", versions.size());
+    }
+
+    /**
+     * Picks up token version bumps made since the last refresh, by any instance.
+     */
+    @Scheduled(fixedDelayString = "${security.token-version.refresh-interval:5000}")
+    public void refresh() {
+        for (Object[] row : userRepository.findRevokedTokenVersions()) {
+            update((Integer) row[0], (Integer) row[1]);
+        }
+    }
+
+    /**
+     * Whether the token was issued with the user's current version. Tokens without a user id claim pass here;
+     * they are checked with {@link #isCurrent(Integer, int)} once their user has been loaded.
+     */
+    public boolean isCurrent(Claims claims) {
+        if (!JwtPrincipal.isPresentIn(claims)) {
+            return true;
+        }
+        Integer userId = claims.get(JwtPrincipal.USER_ID_CLAIM, Number.class).intValue();
+        return isCurrent(userId, JwtPrincipal.tokenVersionOf(claims));
+    }
+
+    /**
+     * Whether a token of the given version is still current for the user. Tokens without a version claim are
+     * version 0, so they stop being current once the user's tokens are revoked.
+     */
+    public boolean isCurrent(Integer userId, int tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0);
+    }
+
+    public void update(Integer userId, int version) {
+        versions.merge(userId, version, Math::max);
+    }
+}
@@ -0,0 +1,78 @@
+package com.inghub.loanapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Short-lived negative cache of usernames that have no account, so repeated logins or tokens for
+ * unknown emails don't turn into a user query each time.
+ * <p>
+ * Bounded by size so a flood of random emails can't grow it without limit. A user created or renamed to a
+ * cached email is evicted through {@link PrincipalCacheInvalidator}; the TTL covers anything that slips past.
+ */
+@Slf4j
+@Component
+public class UnknownUserCache implements MeterBinder {
+
+    private final Cache<String, Boolean> cache;
+
+    @Autowired
+    public UnknownUserCache(
+            @Value("${security.unknown-user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.unknown-user-cache.ttl:60000}") long ttlMillis
+    ) {
+        this(maximumSize, ttlMillis, Ticker.systemTicker());
+    }
+
+    UnknownUserCache(long maximumSize, long ttlMillis, Ticker ticker) {
+        if (maximumSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Unknown user cache size and TTL must be positive.");
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        log.info("Unknown user cache started with maximum size {} and TTL {} ms", maximumSize, ttlMillis);
+    }
+
+    public boolean isUnknown(String username) {
+        return username != null && cache.getIfPresent(username) != null;
+    }
+
+    public void markUnknown(String username) {
+        if (username != null) {
+            cache.put(username, Boolean.TRUE);
+        }
+    }
+
+    public void forget(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "unknown-users");
+    }
+}
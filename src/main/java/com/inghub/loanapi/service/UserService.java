@@ -2,7 +2,9 @@ package com.inghub.loanapi.service;
 
 import com.inghub.loanapi.entity.User;
 import com.inghub.loanapi.repository.UserRepository;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,11 +12,17 @@ import java.util.List;
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final PrincipalCache principalCache;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, TokenVersionRegistry tokenVersionRegistry,
+                       PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.principalCache = principalCache;
     }
 
+    @Transactional(readOnly = true)
     public List<User> allUsers() {
         List<User> users = new ArrayList<>();
 
@@ -23,4 +31,22 @@ public class UserService {
         return users;
     }
 
+    public User findByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
+    /**
+     * Invalidates every token issued to the user so far by bumping the token version.
+     */
+    @Transactional
+    public void revokeTokens(Integer userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        int version = userRepository.findTokenVersionById(userId).orElseThrow();
+        tokenVersionRegistry.update(userId, version);
+        principalCache.invalidateUser(userId, null);
+    }
+
 }
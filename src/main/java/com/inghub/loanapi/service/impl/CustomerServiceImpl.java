@@ -10,6 +10,7 @@ import com.inghub.loanapi.exception.CustomerNotFoundException;
 import com.inghub.loanapi.repository.CustomerRepository;
 import com.inghub.loanapi.repository.UserRepository;
 import com.inghub.loanapi.service.CustomerService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "customer.service", description = "Customer service calls", histogram = true)
 public class CustomerServiceImpl implements CustomerService {
 
     private final CustomerRepository customerRepository;
@@ -28,6 +30,7 @@ public class CustomerServiceImpl implements CustomerService {
     private final CustomerMapper customerMapper;
 
     @Override
+    @Transactional(readOnly = true)
     public CustomerResponse getCustomerById(Long customerId) {
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + customerId));
@@ -70,8 +73,9 @@ public class CustomerServiceImpl implements CustomerService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerResponse> listAllCustomers() {
-        return customerRepository.findAll().stream()
+        return customerRepository.findAllWithLoans().stream()
                 .map(customerMapper::toResponse)
                 .collect(Collectors.toList());
     }
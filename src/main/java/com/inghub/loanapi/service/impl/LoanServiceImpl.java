@@ -12,79 +12,209 @@ import com.inghub.loanapi.exception.CustomerNotFoundException;
 import com.inghub.loanapi.exception.InsufficientCreditException;
 import com.inghub.loanapi.exception.InvalidLoanParameterException;
 import com.inghub.loanapi.exception.LoanAlreadyPaidException;
+import com.inghub.loanapi.exception.LoanNotFoundException;
+import com.inghub.loanapi.money.Money;
+import com.inghub.loanapi.observability.LogSampler;
+import com.inghub.loanapi.observability.jfr.LoanCreationEvent;
+import com.inghub.loanapi.observability.jfr.PaymentAllocationEvent;
 import com.inghub.loanapi.repository.CustomerRepository;
 import com.inghub.loanapi.repository.LoanRepository;
+import com.inghub.loanapi.repository.projection.LoanInstallmentView;
 import com.inghub.loanapi.service.LoanService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "loan.service", description = "Loan service calls", histogram = true)
 public class LoanServiceImpl implements LoanService {
 
     private final CustomerRepository customerRepository;
     private final LoanRepository loanRepository;
     private final LoanMapper loanMapper;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
 
     private static final List<Integer> ALLOWED_INSTALLMENTS = Arrays.asList(6, 9, 12, 24);
     private static final BigDecimal MIN_INTEREST_RATE = new BigDecimal("0.1");
     private static final BigDecimal MAX_INTEREST_RATE = new BigDecimal("0.5");
+    private static final int BATCH_CHUNK_SIZE = 200;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final ZoneId PAYMENT_ZONE = ZoneId.of("Europe/Istanbul");
+    private static final int PAYABLE_MONTHS_AHEAD = 3;
+    private static final long PER_MILLE = 1000L; // early-payment discount / late-payment penalty is 0.1% per day
+    // Per-installment DEBUG lines, shared by all requests
+    private static final LogSampler INSTALLMENT_LOG_SAMPLER = new LogSampler(20);
+    private static final String PHASE_OBSERVATION = "loan.service.phase";
 
     @Override
     public LoanResponse createLoan(LoanRequest request) {
-        log.info("Starting loan creation for customerId: {}", request.getCustomerId());
-        validateLoanParameters(request);
+        log.debug("Starting loan creation for customerId: {}", request.getCustomerId());
+        LoanCreationEvent event = new LoanCreationEvent();
+        event.begin();
+        phase("validate", () -> validateLoanParameters(request));
+
+        Money totalLoanAmount = calculateTotalAmount(Money.of(request.getAmount()), request.getInterestRate());
+        phase("update-credit", () -> reserveCredit(request.getCustomerId(), totalLoanAmount));
+        Customer customer = phase("fetch-customer", () -> customerRepository.getReferenceById(request.getCustomerId()));
+        Loan loan = phase("build-schedule", () -> scheduleLoan(request, customer, totalLoanAmount));
+
+        // Flushed here so the inserts are timed as part of this phase rather than the commit
+        Loan savedLoan = phase("persist", () -> {
+            Loan saved = loanRepository.save(loan);
+            entityManager.flush();
+            return saved;
+        });
+        log.atInfo()
+                .addKeyValue("event", "loan.created")
+                .addKeyValue("customerId", request.getCustomerId())
+                .addKeyValue("loanId", savedLoan.getId())
+                .log("Loan created");
+
+        event.setCustomerId(request.getCustomerId());
+        event.setLoanId(savedLoan.getId());
+        event.setNumberOfInstallments(request.getNumberOfInstallments());
+        event.setTotalAmount(totalLoanAmount.toString());
+        event.commit();
 
-        Customer customer = customerRepository.findById(request.getCustomerId())
-                .orElseThrow(() -> {
-                    log.error("Customer not found with ID: {}", request.getCustomerId());
-                    return new CustomerNotFoundException("Customer not found with ID: " + request.getCustomerId());
-                });
+        return loanMapper.toLoanResponse(savedLoan);
+    }
 
-        BigDecimal totalLoanAmount = calculateTotalAmount(request.getAmount(), request.getInterestRate());
+    @Override
+    public LoanBatchResponse createLoans(List<LoanRequest> requests) {
+        log.debug("Starting batch loan creation for {} requests", requests.size());
+        List<LoanBatchItemResult> results = new ArrayList<>(requests.size());
 
-        if (customer.getUsedCreditLimit().add(totalLoanAmount).compareTo(customer.getCreditLimit()) > 0) {
-            log.error("Customer with ID: {} has insufficient credit limit", request.getCustomerId());
-            throw new InsufficientCreditException("Insufficient credit limit for this loan.");
+        for (int offset = 0; offset < requests.size(); offset += BATCH_CHUNK_SIZE) {
+            List<LoanRequest> chunk = requests.subList(offset, Math.min(offset + BATCH_CHUNK_SIZE, requests.size()));
+            results.addAll(createLoanChunk(chunk, offset));
+        }
+
+        int created = (int) results.stream().filter(LoanBatchItemResult::getCreated).count();
+        log.atInfo()
+                .addKeyValue("event", "loan.batch.created")
+                .addKeyValue("created", created)
+                .addKeyValue("rejected", results.size() - created)
+                .log("Batch loan creation finished");
+
+        return LoanBatchResponse.builder()
+                .requested(requests.size())
+                .created(created)
+                .rejected(results.size() - created)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Creates the valid loans of one chunk with batched inserts. Invalid items are reported and skipped,
+     * and the persistence context is cleared afterwards so large batches don't accumulate managed entities.
+     */
+    private List<LoanBatchItemResult> createLoanChunk(List<LoanRequest> chunk, int offset) {
+        Loan[] loans = new Loan[chunk.size()];
+        String[] errors = new String[chunk.size()];
+
+        for (int i = 0; i < chunk.size(); i++) {
+            LoanRequest request = chunk.get(i);
+            try {
+                validateLoanRequest(request);
+                loans[i] = buildLoan(request);
+            } catch (InvalidLoanParameterException | CustomerNotFoundException | InsufficientCreditException ex) {
+                log.warn("Rejected batch item {}: {}", offset + i, ex.getMessage());
+                errors[i] = ex.getMessage();
+            }
         }
 
+        loanRepository.saveAll(Arrays.stream(loans).filter(Objects::nonNull).toList());
+        entityManager.flush();
+
+        List<LoanBatchItemResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            results.add(loans[i] != null
+                    ? LoanBatchItemResult.created(offset + i, loanMapper.toLoanResponse(loans[i]))
+                    : LoanBatchItemResult.rejected(offset + i, errors[i]));
+        }
+        entityManager.clear();
+        return results;
+    }
+
+    private void validateLoanRequest(LoanRequest request) {
+        Set<ConstraintViolation<LoanRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new InvalidLoanParameterException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        validateLoanParameters(request);
+    }
+
+    /**
+     * Reserves the total amount on the customer's credit and builds the loan with its installment schedule.
+     */
+    private Loan buildLoan(LoanRequest request) {
+        Money totalLoanAmount = calculateTotalAmount(Money.of(request.getAmount()), request.getInterestRate());
+        reserveCredit(request.getCustomerId(), totalLoanAmount);
+
+        Customer customer = customerRepository.getReferenceById(request.getCustomerId());
+        return scheduleLoan(request, customer, totalLoanAmount);
+    }
+
+    private Loan scheduleLoan(LoanRequest request, Customer customer, Money totalLoanAmount) {
         Loan loan = initializeLoan(request, customer, totalLoanAmount);
         List<LoanInstallment> installments = createInstallments(totalLoanAmount, request.getNumberOfInstallments(), loan);
         loan.setInstallments(installments);
+        return loan;
+    }
 
-        customer.setUsedCreditLimit(customer.getUsedCreditLimit().add(totalLoanAmount));
-        customerRepository.save(customer);
-
-        Loan savedLoan = loanRepository.save(loan);
-        log.info("Loan created successfully for customerId: {} with loanId: {}", customer.getId(), savedLoan.getId());
-
-        return loanMapper.toLoanResponse(savedLoan);
+    /**
+     * The limit check and the increment happen in one guarded UPDATE, so concurrent loans can't overdraw the limit.
+     */
+    private void reserveCredit(Long customerId, Money amount) {
+        if (customerRepository.reserveCredit(customerId, amount.toBigDecimal()) == 0) {
+            if (!customerRepository.existsById(customerId)) {
+                log.error("Customer not found with ID: {}", customerId);
+                throw new CustomerNotFoundException("Customer not found with ID: " + customerId);
+            }
+            log.error("Customer with ID: {} has insufficient credit limit", customerId);
+            throw new InsufficientCreditException("Insufficient credit limit for this loan.");
+        }
     }
 
-    private BigDecimal calculateTotalAmount(BigDecimal amount, BigDecimal interestRate) {
-        return amount.multiply(BigDecimal.ONE.add(interestRate)).setScale(2, RoundingMode.HALF_UP);
+    Money calculateTotalAmount(Money amount, BigDecimal interestRate) {
+        return amount.multiply(BigDecimal.ONE.add(interestRate));
     }
 
-    private Loan initializeLoan(LoanRequest request, Customer customer, BigDecimal totalLoanAmount) {
+    private Loan initializeLoan(LoanRequest request, Customer customer, Money totalLoanAmount) {
         Loan loan = new Loan();
         loan.setCustomer(customer);
-        loan.setLoanAmount(request.getAmount().setScale(2, RoundingMode.HALF_UP));
+        loan.setLoanAmount(Money.of(request.getAmount()));
         loan.setInterestRate(request.getInterestRate());
         loan.setNumberOfInstallments(request.getNumberOfInstallments());
         loan.setTotalAmount(totalLoanAmount);
@@ -93,9 +223,9 @@ public class LoanServiceImpl implements LoanService {
         return loan;
     }
 
-    private List<LoanInstallment> createInstallments(BigDecimal totalAmount, int numInstallments, Loan loan) {
-        List<LoanInstallment> installments = new ArrayList<>();
-        BigDecimal installmentAmount = totalAmount.divide(BigDecimal.valueOf(numInstallments), 2, RoundingMode.HALF_UP);
+    List<LoanInstallment> createInstallments(Money totalAmount, int numInstallments, Loan loan) {
+        List<LoanInstallment> installments = new ArrayList<>(numInstallments);
+        Money installmentAmount = totalAmount.divide(numInstallments);
         LocalDate firstDueDate = LocalDate.now().plusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
 
         for (int i = 0; i < numInstallments; i++) {
@@ -112,70 +242,125 @@ public class LoanServiceImpl implements LoanService {
         return installments;
     }
 
+    /**
+     * Lists one page of loans in a fixed number of statements: the page select, plus one joined select for the
+     * installments when they are requested (or the customer existence check when the page is empty).
+     */
     @Override
-    public List<LoanResponse> listLoans(Long customerId, Integer numInstallments, Boolean isPaid) {
-        log.info("Fetching loans for customerId: {}", customerId);
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> {
-                    log.error("Customer not found with ID: {}", customerId);
-                    return new CustomerNotFoundException("Customer not found");
-                });
+    @Transactional(readOnly = true)
+    public List<LoanResponse> listLoans(Long customerId, Integer numInstallments, Boolean isPaid,
+                                        Long afterLoanId, int limit, boolean includeInstallments) {
+        log.debug("Fetching loans for customerId: {} after loanId: {} (limit {})", customerId, afterLoanId, limit);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidLoanParameterException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
 
-        List<Loan> loans = loanRepository.findByCustomerId(customerId);
-        loans = filterLoans(loans, numInstallments, isPaid);
-        log.info("Found {} loans for customerId: {}", loans.size(), customerId);
+        List<Loan> loans = loanRepository.findPageByCustomerId(customerId, numInstallments, isPaid,
+                afterLoanId == null ? 0L : afterLoanId, Limit.of(limit));
 
-        return loanMapper.toLoanResponseList(loans);
-    }
+        // Only an empty page needs the extra lookup to tell "no matching loans" from "no such customer"
+        if (loans.isEmpty() && !customerRepository.existsById(customerId)) {
+            log.error("Customer not found with ID: {}", customerId);
+            throw new CustomerNotFoundException("Customer not found");
+        }
+        log.debug("Found {} loans for customerId: {}", loans.size(), customerId);
 
-    private List<Loan> filterLoans(List<Loan> loans, Integer numInstallments, Boolean isPaid) {
-        return loans.stream()
-                .filter(loan -> numInstallments == null || loan.getNumberOfInstallments().equals(numInstallments))
-                .filter(loan -> isPaid == null || loan.getIsPaid().equals(isPaid))
-                .collect(Collectors.toList());
+        if (!includeInstallments) {
+            return loanMapper.toLoanSummaryResponseList(loans);
+        }
+        if (loans.isEmpty()) {
+            return List.of();
+        }
+        return loanMapper.toLoanResponseList(loanRepository.findWithInstallmentsByIdIn(loans.stream().map(Loan::getId).toList()));
     }
 
+    /**
+     * Projects the installments straight into rows; nothing is hydrated into the persistence context.
+     */
     @Override
+    @Transactional(readOnly = true)
     public List<InstallmentResponse> listInstallmentsForLoan(Long loanId) {
-        log.info("Listing installments for loanId: {}", loanId);
-        Loan loan = loanRepository.findById(loanId)
-                .orElseThrow(() -> {
-                    log.error("Loan not found with ID: {}", loanId);
-                    return new IllegalArgumentException("Loan not found");
-                });
+        log.debug("Listing installments for loanId: {}", loanId);
+        List<LoanInstallmentView> installments = loanRepository.findInstallmentViewsByLoanId(loanId);
+
+        // Every loan has installments, so only an empty result needs the existence check
+        if (installments.isEmpty() && !loanRepository.existsById(loanId)) {
+            log.error("Loan not found with ID: {}", loanId);
+            throw new LoanNotFoundException("Loan not found");
+        }
 
-        return loanMapper.toInstallmentResponseList(loan.getInstallments());
+        return loanMapper.toInstallmentResponsesFromViews(installments);
     }
 
 
     @Override
     public LoanPaymentResponse payLoanInstallment(LoanPaymentRequest paymentRequest) {
         final long loanId = paymentRequest.getLoanId();
-        log.info("Start processing payment for loanId: {}", loanId);
+        log.debug("Start processing payment for loanId: {}", loanId);
+        PaymentAllocationEvent event = new PaymentAllocationEvent();
+        event.begin();
 
-        validatePaymentAmount(paymentRequest.getPaymentAmount());
+        phase("validate", () -> validatePaymentAmount(paymentRequest.getPaymentAmount()));
 
-        Loan loan = fetchLoan(loanId);
+        Loan loan = phase("fetch-loan", () -> fetchLoan(loanId));
         validateLoanNotPaid(loan);
 
-        Customer customer = fetchCustomer(loan.getCustomer().getId());
-
-        List<LoanInstallment> unpaidInstallments = getUnpaidInstallments(loan);
-        BigDecimal remainingPayment = paymentRequest.getPaymentAmount();
-        BigDecimal totalPaidAmount = BigDecimal.ZERO;
+        LocalDate currentDate = LocalDate.now(PAYMENT_ZONE);
+        LocalDate latestPayableDate = currentDate.plusMonths(PAYABLE_MONTHS_AHEAD);
+        List<LoanInstallment> payableInstallments = phase("fetch-installments",
+                () -> loanRepository.findPayableInstallmentsForUpdate(loanId, latestPayableDate));
+        Money remainingPayment = Money.of(paymentRequest.getPaymentAmount());
+
+        List<LoanInstallment> paidInstallments = phase("apply-payment",
+                () -> processInstallments(payableInstallments, remainingPayment, currentDate));
+        Money totalPaidAmount = calculateTotalPaid(paidInstallments);
+
+        boolean loanFullyPaid = phase("persist", () -> {
+            // Installments beyond the payment window are not loaded, so ask for them only once everything payable is paid
+            boolean fullyPaid = paidInstallments.size() == payableInstallments.size()
+                    && !loanRepository.existsUnpaidInstallmentDueAfter(loanId, latestPayableDate);
+            loan.setIsPaid(fullyPaid);
+            loanRepository.save(loan);
+            entityManager.flush();
+            return fullyPaid;
+        });
+
+        phase("update-credit", () -> releaseCredit(loan.getCustomer().getId(), totalPaidAmount));
+        log.atInfo()
+                .addKeyValue("event", "loan.payment.processed")
+                .addKeyValue("loanId", loanId)
+                .addKeyValue("totalPaid", totalPaidAmount)
+                .addKeyValue("installmentsPaid", paidInstallments.size())
+                .addKeyValue("loanFullyPaid", loanFullyPaid)
+                .log("Payment processed");
+        meterRegistry.summary("loan.payment.installments").record(paidInstallments.size());
+
+        event.setLoanId(loanId);
+        event.setInstallmentsPayable(payableInstallments.size());
+        event.setInstallmentsPaid(paidInstallments.size());
+        event.setTotalPaid(totalPaidAmount.toString());
+        event.setLoanFullyPaid(loanFullyPaid);
+        event.commit();
 
-        List<LoanInstallment> paidInstallments = processInstallments(unpaidInstallments, remainingPayment);
-        totalPaidAmount = calculateTotalPaid(paidInstallments);
+        return buildLoanPaymentResponse(loanId, totalPaidAmount, paidInstallments, loanFullyPaid);
+    }
 
-        boolean loanFullyPaid = unpaidInstallments.stream().allMatch(LoanInstallment::getIsPaid);
-        loan.setIsPaid(loanFullyPaid);
-        loanRepository.save(loan);
+    /**
+     * Runs one step of a service call as a {@code loan.service.phase} observation: a child span of the request's
+     * trace and a timer tagged with the phase name.
+     */
+    private <T> T phase(String name, Supplier<T> work) {
+        return phaseObservation(name).observe(work);
+    }
 
-        updateCustomerCreditLimit(customer, totalPaidAmount);
-        log.info("Payment processed for loanId: {}. Total paid: {}, Number of installments paid: {}, Loan fully paid: {}",
-                loanId, totalPaidAmount, paidInstallments.size(), loanFullyPaid);
+    private void phase(String name, Runnable work) {
+        phaseObservation(name).observe(work);
+    }
 
-        return buildLoanPaymentResponse(loanId, totalPaidAmount, paidInstallments, loanFullyPaid);
+    private Observation phaseObservation(String name) {
+        return Observation.createNotStarted(PHASE_OBSERVATION, observationRegistry)
+                .contextualName("loan " + name)
+                .lowCardinalityKeyValue("phase", name);
     }
 
     private void validatePaymentAmount(BigDecimal paymentAmount) {
@@ -189,7 +374,7 @@ public class LoanServiceImpl implements LoanService {
         return loanRepository.findById(loanId)
                 .orElseThrow(() -> {
                     log.error("Loan not found with ID: {}", loanId);
-                    return new IllegalArgumentException("Loan not found.");
+                    return new LoanNotFoundException("Loan not found.");
                 });
     }
 
@@ -200,90 +385,80 @@ public class LoanServiceImpl implements LoanService {
         }
     }
 
-    private Customer fetchCustomer(Long customerId) {
-        return customerRepository.findById(customerId)
-                .orElseThrow(() -> {
-                    log.error("Customer not found with ID: {}", customerId);
-                    return new IllegalStateException("Customer associated with loan not found.");
-                });
-    }
-
-    private List<LoanInstallment> getUnpaidInstallments(Loan loan) {
-        return loan.getInstallments().stream()
-                .filter(installment -> !installment.getIsPaid())
-                .sorted(Comparator.comparing(LoanInstallment::getDueDate))
-                .toList();
-    }
-
-    private List<LoanInstallment> processInstallments(List<LoanInstallment> installments, BigDecimal payment) {
-        LocalDate currentDate = LocalDate.now(ZoneId.of("Europe/Istanbul"));
-        LocalDate latestPayableDate = currentDate.plusMonths(3);
+    /**
+     * Pays the given installments in order while the payment covers them. The caller passes only unpaid
+     * installments inside the payment window, ordered by due date.
+     */
+    List<LoanInstallment> processInstallments(List<LoanInstallment> installments, Money payment, LocalDate currentDate) {
         List<LoanInstallment> paidInstallments = new ArrayList<>();
 
         for (LoanInstallment installment : installments) {
-            if (installment.getDueDate().isAfter(latestPayableDate)) {
-                log.warn("Skipping installment {} due to future due date {}", installment.getId(), installment.getDueDate());
-                continue;
-            }
-
             if (payment.compareTo(installment.getAmount()) >= 0) {
-                BigDecimal paidAmount = calculatePaidAmount(installment, currentDate);
+                Money paidAmount = calculatePaidAmount(installment, currentDate);
                 installment.setPaidAmount(paidAmount);
                 installment.setIsPaid(true);
                 installment.setStatus(InstallmentStatus.PAID);
 
-                payment = payment.subtract(installment.getAmount());
+                payment = payment.minus(installment.getAmount());
                 paidInstallments.add(installment);
 
-                log.info("Installment {} paid. Paid Amount: {}, Remaining payment: {}",
-                        installment.getId(), paidAmount, payment);
+                if (log.isDebugEnabled() && INSTALLMENT_LOG_SAMPLER.tryAcquire()) {
+                    log.debug("Installment {} paid. Paid Amount: {}, Remaining payment: {}",
+                            installment.getId(), paidAmount, payment);
+                }
             } else {
-                log.info("Insufficient payment for installment {}. Skipping.", installment.getId());
+                log.debug("Insufficient payment for installment {}. Skipping.", installment.getId());
                 break;
             }
 
-            if (payment.compareTo(BigDecimal.ZERO) == 0) break;
+            if (payment.isZero()) break;
         }
 
         return paidInstallments;
     }
 
-    private BigDecimal calculatePaidAmount(LoanInstallment installment, LocalDate currentDate) {
+    Money calculatePaidAmount(LoanInstallment installment, LocalDate currentDate) {
         long daysDifference = ChronoUnit.DAYS.between(currentDate, installment.getDueDate());
-        BigDecimal paidAmount = installment.getAmount();
+        Money amount = installment.getAmount();
 
+        if (daysDifference == 0) {
+            return amount;
+        }
+
+        // amount * (1 - 0.001 * days early) or amount * (1 + 0.001 * days late), rounded once to cents
+        Money paidAmount = amount.multiply(PER_MILLE - daysDifference, PER_MILLE).max(Money.ZERO);
+        if (!log.isDebugEnabled() || !INSTALLMENT_LOG_SAMPLER.tryAcquire()) {
+            return paidAmount;
+        }
         if (daysDifference > 0) {
-            BigDecimal discount = installment.getAmount().multiply(BigDecimal.valueOf(0.001)).multiply(BigDecimal.valueOf(daysDifference));
-            paidAmount = paidAmount.subtract(discount).max(BigDecimal.ZERO);
-            log.debug("Early payment discount for installment {}: {}", installment.getId(), discount);
-        } else if (daysDifference < 0) {
-            BigDecimal penalty = installment.getAmount().multiply(BigDecimal.valueOf(0.001)).multiply(BigDecimal.valueOf(Math.abs(daysDifference)));
-            paidAmount = paidAmount.add(penalty);
-            log.debug("Late payment penalty for installment {}: {}", installment.getId(), penalty);
+            log.debug("Early payment discount for installment {}: {}", installment.getId(), amount.minus(paidAmount));
+        } else {
+            log.debug("Late payment penalty for installment {}: {}", installment.getId(), paidAmount.minus(amount));
         }
 
         return paidAmount;
     }
 
-    private BigDecimal calculateTotalPaid(List<LoanInstallment> paidInstallments) {
-        return paidInstallments.stream()
-                .map(LoanInstallment::getPaidAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private Money calculateTotalPaid(List<LoanInstallment> paidInstallments) {
+        Money total = Money.ZERO;
+        for (LoanInstallment installment : paidInstallments) {
+            total = total.plus(installment.getPaidAmount());
+        }
+        return total;
     }
 
-    private void updateCustomerCreditLimit(Customer customer, BigDecimal totalPaidAmount) {
-        if (totalPaidAmount.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal newUsedCreditLimit = customer.getUsedCreditLimit().subtract(totalPaidAmount).max(BigDecimal.ZERO);
-            customerRepository.updateUsedCreditLimit(customer.getId(), newUsedCreditLimit);
-            log.info("Customer {} credit limit updated. New used credit: {}", customer.getId(), newUsedCreditLimit);
+    private void releaseCredit(Long customerId, Money totalPaidAmount) {
+        if (totalPaidAmount.isPositive()) {
+            customerRepository.releaseCredit(customerId, totalPaidAmount.toBigDecimal());
+            log.debug("Customer {} credit limit updated. Released credit: {}", customerId, totalPaidAmount);
         }
     }
 
-    private LoanPaymentResponse buildLoanPaymentResponse(long loanId, BigDecimal totalPaidAmount,
+    private LoanPaymentResponse buildLoanPaymentResponse(long loanId, Money totalPaidAmount,
                                                          List<LoanInstallment> paidInstallments, boolean loanFullyPaid) {
         return LoanPaymentResponse.builder()
                 .loanId(loanId)
-                .totalPaid(totalPaidAmount)
+                .totalPaid(totalPaidAmount.toBigDecimal())
                 .numberOfInstallmentsPaid(paidInstallments.size())
                 .loanFullyPaid(loanFullyPaid)
                 .paidInstallments(loanMapper.toInstallmentResponseList(paidInstallments))
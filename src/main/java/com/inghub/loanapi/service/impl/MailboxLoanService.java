@@ -0,0 +1,70 @@
+package com.inghub.loanapi.service.impl;
+
+import com.inghub.loanapi.dto.*;
+import com.inghub.loanapi.repository.LoanRepository;
+import com.inghub.loanapi.service.CustomerMailboxExecutor;
+import com.inghub.loanapi.service.LoanService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Routes loan mutations through the customer's mailbox so that concurrent createLoan and
+ * payLoanInstallment calls of the same customer are applied one after another.
+ * Reads, and batch origination (which only inserts new loans and reserves credit atomically),
+ * go straight to the delegate.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "loan.mailbox.enabled", havingValue = "true", matchIfMissing = true)
+public class MailboxLoanService implements LoanService {
+
+    private final LoanService delegate;
+    private final LoanRepository loanRepository;
+    private final CustomerMailboxExecutor mailboxExecutor;
+
+    public MailboxLoanService(
+            @Qualifier("loanServiceImpl") LoanService delegate,
+            LoanRepository loanRepository,
+            CustomerMailboxExecutor mailboxExecutor
+    ) {
+        this.delegate = delegate;
+        this.loanRepository = loanRepository;
+        this.mailboxExecutor = mailboxExecutor;
+    }
+
+    @Override
+    public LoanResponse createLoan(LoanRequest createLoanRequest) {
+        if (createLoanRequest.getCustomerId() == null) {
+            return delegate.createLoan(createLoanRequest);
+        }
+        return mailboxExecutor.execute(createLoanRequest.getCustomerId(), () -> delegate.createLoan(createLoanRequest));
+    }
+
+    @Override
+    public LoanBatchResponse createLoans(List<LoanRequest> createLoanRequests) {
+        return delegate.createLoans(createLoanRequests);
+    }
+
+    @Override
+    public List<LoanResponse> listLoans(Long customerId, Integer numInstallments, Boolean isPaid,
+                                        Long afterLoanId, int limit, boolean includeInstallments) {
+        return delegate.listLoans(customerId, numInstallments, isPaid, afterLoanId, limit, includeInstallments);
+    }
+
+    @Override
+    public List<InstallmentResponse> listInstallmentsForLoan(Long loanId) {
+        return delegate.listInstallmentsForLoan(loanId);
+    }
+
+    @Override
+    public LoanPaymentResponse payLoanInstallment(LoanPaymentRequest paymentRequest) {
+        // Unknown loans fall through to the delegate, which reports them
+        return loanRepository.findCustomerIdById(paymentRequest.getLoanId())
+                .map(customerId -> mailboxExecutor.execute(customerId, () -> delegate.payLoanInstallment(paymentRequest)))
+                .orElseGet(() -> delegate.payLoanInstallment(paymentRequest));
+    }
+}
@@ -7,6 +7,7 @@ import com.inghub.loanapi.entity.LoanInstallment;
 import com.inghub.loanapi.entity.User;
 import com.inghub.loanapi.enums.InstallmentStatus;
 import com.inghub.loanapi.enums.LoanStatus;
+import com.inghub.loanapi.money.Money;
 import com.inghub.loanapi.repository.CustomerRepository;
 import com.inghub.loanapi.repository.LoanRepository;
 import com.inghub.loanapi.repository.UserRepository;
@@ -75,10 +76,10 @@ public class CustomerAndLoanSeeder implements ApplicationListener<ContextRefresh
     private void createLoanForCustomer(Customer customer, BigDecimal amount, double interestRate, int installments) {
         validateLoanParameters(customer, amount, interestRate, installments);
 
-        BigDecimal totalAmount = calculateTotalLoanAmount(amount, interestRate);
+        Money totalAmount = calculateTotalLoanAmount(Money.of(amount), interestRate);
         Loan loan = new Loan();
         loan.setCustomer(customer);
-        loan.setLoanAmount(amount);
+        loan.setLoanAmount(Money.of(amount));
         loan.setInterestRate(BigDecimal.valueOf(interestRate));
         loan.setTotalAmount(totalAmount);
         loan.setNumberOfInstallments(installments);
@@ -87,8 +88,7 @@ public class CustomerAndLoanSeeder implements ApplicationListener<ContextRefresh
 
         // Generate Installments
         generateInstallments(loan, totalAmount, installments);
-        customer.setUsedCreditLimit(customer.getUsedCreditLimit().add(totalAmount));
-        customerRepository.save(customer);
+        customerRepository.reserveCredit(customer.getId(), totalAmount.toBigDecimal());
         loanRepository.save(loan);
     }
 
@@ -107,13 +107,13 @@ public class CustomerAndLoanSeeder implements ApplicationListener<ContextRefresh
         }
     }
 
-    private BigDecimal calculateTotalLoanAmount(BigDecimal amount, double interestRate) {
-        return amount.multiply(BigDecimal.valueOf(1 + interestRate)).setScale(2, BigDecimal.ROUND_HALF_UP);
+    private Money calculateTotalLoanAmount(Money amount, double interestRate) {
+        return amount.multiply(BigDecimal.valueOf(1 + interestRate));
     }
 
-    private void generateInstallments(Loan loan, BigDecimal totalAmount, int installments) {
+    private void generateInstallments(Loan loan, Money totalAmount, int installments) {
         LocalDate firstDueDate = LocalDate.now().plusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
-        BigDecimal installmentAmount = totalAmount.divide(BigDecimal.valueOf(installments), 2, BigDecimal.ROUND_HALF_UP);
+        Money installmentAmount = totalAmount.divide(installments);
 
         for (int i = 0; i < installments; i++) {
             LoanInstallment installment = new LoanInstallment();
@@ -0,0 +1,69 @@
+-- Baseline of the schema Hibernate used to generate with ddl-auto=update; from here on migrations own the schema.
+-- Uniqueness of users.email comes with its index in V2.
+
+CREATE SEQUENCE roles_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE loans_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE loan_installments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE roles (
+    id          INTEGER                   NOT NULL,
+    name        ENUM ('ADMIN','CUSTOMER') NOT NULL,
+    description VARCHAR(255)              NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT pk_roles PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id         INTEGER      NOT NULL,
+    full_name  VARCHAR(255) NOT NULL,
+    email      VARCHAR(100) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    role_id    INTEGER      NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
+
+CREATE TABLE customers (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name              VARCHAR(255)   NOT NULL,
+    surname           VARCHAR(255)   NOT NULL,
+    credit_limit      NUMERIC(38, 2) NOT NULL,
+    used_credit_limit NUMERIC(38, 2) NOT NULL,
+    user_id           INTEGER,
+    CONSTRAINT pk_customers PRIMARY KEY (id),
+    CONSTRAINT uk_customers_user UNIQUE (user_id),
+    CONSTRAINT fk_customers_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE loans (
+    id                     BIGINT                             NOT NULL,
+    customer_id            BIGINT                             NOT NULL,
+    loan_amount            NUMERIC(38, 2)                     NOT NULL,
+    total_amount           NUMERIC(38, 2)                     NOT NULL,
+    interest_rate          NUMERIC(38, 2)                     NOT NULL,
+    number_of_installments INTEGER                            NOT NULL,
+    create_date            TIMESTAMP(6)                       NOT NULL,
+    is_paid                BOOLEAN                            NOT NULL,
+    status                 ENUM ('ACTIVE','DEFAULTED','PAID') NOT NULL,
+    CONSTRAINT pk_loans PRIMARY KEY (id),
+    CONSTRAINT fk_loans_customer FOREIGN KEY (customer_id) REFERENCES customers (id)
+);
+
+CREATE TABLE loan_installments (
+    id                 BIGINT                                                  NOT NULL,
+    loan_id            BIGINT                                                  NOT NULL,
+    installment_number INTEGER                                                 NOT NULL,
+    amount             NUMERIC(38, 2)                                          NOT NULL,
+    paid_amount        NUMERIC(19, 2),
+    due_date           DATE                                                    NOT NULL,
+    payment_date       DATE,
+    is_paid            BOOLEAN                                                 NOT NULL,
+    status             ENUM ('OVERDUE','PAID','PAID_EARLY','PAID_LATE','PENDING') NOT NULL,
+    CONSTRAINT pk_loan_installments PRIMARY KEY (id),
+    CONSTRAINT fk_loan_installments_loan FOREIGN KEY (loan_id) REFERENCES loans (id)
+);
@@ -0,0 +1,8 @@
+-- Payable-installment lookup: unpaid installments of a loan due by a date, in due date order
+CREATE INDEX idx_loan_installments_loan_paid_due ON loan_installments (loan_id, is_paid, due_date);
+
+-- Loan listing: a customer's loans filtered by paid flag and installment count
+CREATE INDEX idx_loans_customer_paid_installments ON loans (customer_id, is_paid, number_of_installments);
+
+-- Login and JWT principal lookups by email
+CREATE UNIQUE INDEX idx_users_email ON users (email);
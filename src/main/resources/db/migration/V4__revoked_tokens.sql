@@ -0,0 +1,11 @@
+-- Individually revoked tokens, by JWT id; rows are purged once the token would have expired anyway
+CREATE TABLE revoked_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    token_id   VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP   NOT NULL,
+    revoked_at TIMESTAMP   NOT NULL,
+    CONSTRAINT pk_revoked_tokens PRIMARY KEY (id),
+    CONSTRAINT uk_revoked_tokens_token_id UNIQUE (token_id)
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
@@ -0,0 +1,2 @@
+-- The in-memory revocation view is refreshed by revocation time
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
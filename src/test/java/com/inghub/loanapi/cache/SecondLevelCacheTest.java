@@ -0,0 +1,236 @@
+package com.inghub.loanapi.cache;
+
+import com.inghub.loanapi.dto.CustomerRequest;
+import com.inghub.loanapi.dto.LoanPaymentRequest;
+import com.inghub.loanapi.dto.mapper.CustomerMapperImpl;
+import com.inghub.loanapi.dto.mapper.LoanMapperImpl;
+import com.inghub.loanapi.entity.Customer;
+import com.inghub.loanapi.entity.Loan;
+import com.inghub.loanapi.entity.LoanInstallment;
+import com.inghub.loanapi.entity.Role;
+import com.inghub.loanapi.enums.InstallmentStatus;
+import com.inghub.loanapi.enums.LoanStatus;
+import com.inghub.loanapi.enums.RoleEnum;
+import com.inghub.loanapi.money.Money;
+import com.inghub.loanapi.observability.RequestSqlStatistics;
+import com.inghub.loanapi.observability.SqlQueryCounter;
+import com.inghub.loanapi.repository.CustomerRepository;
+import com.inghub.loanapi.repository.LoanRepository;
+import com.inghub.loanapi.repository.RoleRepository;
+import com.inghub.loanapi.service.CustomerService;
+import com.inghub.loanapi.service.LoanService;
+import com.inghub.loanapi.service.impl.CustomerServiceImpl;
+import com.inghub.loanapi.service.impl.LoanServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the loan service with the second-level cache on and every call committed, so the cache sees the same
+ * transactions as in production.
+ */
+@DataJpaTest(properties = {
+        SqlQueryCounter.STATEMENT_INSPECTOR_PROPERTY,
+        SqlQueryCounter.GENERATE_STATISTICS_PROPERTY,
+        SqlQueryCounter.STATISTICS_FACTORY_PROPERTY
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SecondLevelCacheConfiguration.class, LoanServiceImpl.class, LoanMapperImpl.class,
+        CustomerServiceImpl.class, CustomerMapperImpl.class, SecondLevelCacheTest.Infrastructure.class})
+class SecondLevelCacheTest {
+
+    private static final int INSTALLMENTS = 6;
+    private static final String INSTALLMENTS_ROLE = Loan.class.getName() + ".installments";
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long customerId;
+    private Long loanId;
+
+    @TestConfiguration
+    static class Infrastructure {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObservationRegistry observationRegistry() {
+            return ObservationRegistry.NOOP;
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        inTransaction(() -> {
+            Customer customer = new Customer();
+            customer.setName("John");
+            customer.setSurname("Doe");
+            customer.setCreditLimit(BigDecimal.valueOf(10000));
+            customer.setUsedCreditLimit(BigDecimal.valueOf(1320));
+            customerId = customerRepository.save(customer).getId();
+            loanId = loanRepository.save(loanWithInstallments(customer)).getId();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("Should Serve a Paid Loan's Installments from the Cache With the Payment Applied")
+    void shouldServePaidInstallmentsFromCache() {
+        // Arrange
+        inTransaction(() -> loanRepository.findById(loanId).orElseThrow().getInstallments().size());
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        assertThat(sessionFactory.getCache().containsEntity(Loan.class, loanId)).isTrue();
+        assertThat(sessionFactory.getCache().containsCollection(INSTALLMENTS_ROLE, loanId)).isTrue();
+
+        // Act
+        loanService.payLoanInstallment(LoanPaymentRequest.builder()
+                .loanId(loanId)
+                .paymentAmount(BigDecimal.valueOf(440))
+                .build());
+
+        // Assert
+        Object[] statuses = new Object[1];
+        RequestSqlStatistics statistics = SqlQueryCounter.count(() -> statuses[0] = inTransaction(() ->
+                loanRepository.findById(loanId).orElseThrow().getInstallments().stream()
+                        .map(LoanInstallment::getIsPaid)
+                        .toList()));
+        assertThat(statistics.statements()).isZero();
+        assertThat(statuses[0]).isEqualTo(List.of(true, true, false, false, false, false));
+    }
+
+    @Test
+    @DisplayName("Should Reload the Customer After a Payment Releases Credit")
+    void shouldReloadCustomerAfterCreditRelease() {
+        // Arrange
+        inTransaction(() -> customerRepository.findById(customerId).orElseThrow());
+        BigDecimal cachedUsedCredit = SqlQueryCounter.assertStatements(0, () -> inTransaction(() ->
+                customerRepository.findById(customerId).orElseThrow().getUsedCreditLimit()));
+
+        // Act
+        loanService.payLoanInstallment(LoanPaymentRequest.builder()
+                .loanId(loanId)
+                .paymentAmount(BigDecimal.valueOf(220))
+                .build());
+
+        // Assert
+        BigDecimal usedCredit = SqlQueryCounter.assertStatements(1, () -> inTransaction(() ->
+                customerRepository.findById(customerId).orElseThrow().getUsedCreditLimit()));
+        assertThat(usedCredit).isLessThan(cachedUsedCredit);
+    }
+
+    @Test
+    @DisplayName("Should Keep Credit Reserved Elsewhere When Updating a Stale Cached Customer")
+    void shouldKeepForeignCreditReservationOnUpdate() {
+        // Arrange
+        inTransaction(() -> customerRepository.findById(customerId).orElseThrow());
+        // Another node reserves credit; this node's cached copy still holds the old used credit
+        jdbcTemplate.update("UPDATE customers SET used_credit_limit = used_credit_limit + 500 WHERE id = ?", customerId);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        assertThat(sessionFactory.getCache().containsEntity(Customer.class, customerId)).isTrue();
+
+        // Act
+        customerService.updateCustomer(customerId, new CustomerRequest("John", "Updated", BigDecimal.valueOf(12000), RoleEnum.CUSTOMER));
+
+        // Assert
+        BigDecimal usedCredit = jdbcTemplate.queryForObject(
+                "SELECT used_credit_limit FROM customers WHERE id = ?", BigDecimal.class, customerId);
+        assertThat(usedCredit).isEqualByComparingTo("1820");
+        assertThat(jdbcTemplate.queryForObject("SELECT surname FROM customers WHERE id = ?", String.class, customerId))
+                .isEqualTo("Updated");
+    }
+
+    @Test
+    @DisplayName("Should Answer Repeated Role Lookups from the Query Cache")
+    void shouldAnswerRoleLookupsFromQueryCache() {
+        // Arrange
+        inTransaction(() -> roleRepository.findByName(RoleEnum.ADMIN)
+                .orElseGet(() -> roleRepository.save(new Role().setName(RoleEnum.ADMIN).setDescription("Administrator"))));
+        inTransaction(() -> roleRepository.findByName(RoleEnum.ADMIN));
+
+        // Act
+        Role role = SqlQueryCounter.assertStatements(0, () -> inTransaction(() ->
+                roleRepository.findByName(RoleEnum.ADMIN).orElseThrow()));
+
+        // Assert
+        assertThat(role.getName()).isEqualTo(RoleEnum.ADMIN);
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private static Loan loanWithInstallments(Customer customer) {
+        Loan loan = new Loan();
+        loan.setCustomer(customer);
+        loan.setLoanAmount(Money.of(BigDecimal.valueOf(1200)));
+        loan.setTotalAmount(Money.of(BigDecimal.valueOf(1320)));
+        loan.setInterestRate(BigDecimal.valueOf(0.1));
+        loan.setNumberOfInstallments(INSTALLMENTS);
+        loan.setIsPaid(false);
+        loan.setStatus(LoanStatus.ACTIVE);
+
+        for (int i = 1; i <= INSTALLMENTS; i++) {
+            LoanInstallment installment = new LoanInstallment();
+            installment.setLoan(loan);
+            installment.setInstallmentNumber(i);
+            installment.setAmount(Money.of(BigDecimal.valueOf(220)));
+            installment.setDueDate(LocalDate.now().plusMonths(i));
+            installment.setIsPaid(false);
+            installment.setStatus(InstallmentStatus.PENDING);
+            loan.getInstallments().add(installment);
+        }
+        return loan;
+    }
+}
@@ -0,0 +1,67 @@
+package com.inghub.loanapi.config;
+
+import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.repository.UserRepository;
+import com.inghub.loanapi.service.UnknownUserCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationConfigurationTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UnknownUserCache unknownUserCache;
+    private UserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        unknownUserCache = new UnknownUserCache(100, 60_000);
+        userDetailsService = new ApplicationConfiguration(userRepository, null, unknownUserCache, 4).userDetailsService();
+    }
+
+    @Test
+    @DisplayName("Should Query an Unknown Email Only Once")
+    void shouldQueryUnknownEmailOnce() {
+        // Arrange
+        when(userRepository.findByEmail("ghost@a.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> userDetailsService.loadUserByUsername("ghost@a.com"))
+                    .isInstanceOf(UsernameNotFoundException.class);
+        }
+        verify(userRepository, times(1)).findByEmail("ghost@a.com");
+        assertThat(unknownUserCache.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should Find a User Created After the Email Was Cached as Unknown")
+    void shouldFindUserCreatedAfterNegativeLookup() {
+        // Arrange
+        User user = new User().setEmail("new@a.com");
+        when(userRepository.findByEmail("new@a.com")).thenReturn(Optional.empty(), Optional.of(user));
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("new@a.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        // Act
+        unknownUserCache.forget("new@a.com");
+
+        // Assert
+        assertThat(userDetailsService.loadUserByUsername("new@a.com")).isSameAs(user);
+        verify(userRepository, times(2)).findByEmail("new@a.com");
+    }
+}
@@ -0,0 +1,53 @@
+package com.inghub.loanapi.config;
+
+import com.inghub.loanapi.service.PasswordHashingExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedPasswordEncoderTest {
+
+    private final PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(2, 10);
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("Should Rehash a Lower Cost Password on Successful Login")
+    void shouldRehashLowerCostPasswordOnLogin() {
+        // Arrange
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), hashingExecutor);
+        UserDetails stored = User.withUsername("a@a.com").password(new BCryptPasswordEncoder(4).encode("1")).roles("ADMIN").build();
+        AtomicReference<String> upgradedHash = new AtomicReference<>();
+        UserDetailsPasswordService passwordService = (user, newPassword) -> {
+            upgradedHash.set(newPassword);
+            return User.withUserDetails(user).password(newPassword).build();
+        };
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(username -> stored);
+        provider.setPasswordEncoder(encoder);
+        provider.setUserDetailsPasswordService(passwordService);
+
+        // Act
+        provider.authenticate(new UsernamePasswordAuthenticationToken("a@a.com", "1"));
+
+        // Assert
+        assertThat(upgradedHash.get()).startsWith("$2a$05$");
+        assertThat(encoder.matches("1", upgradedHash.get())).isTrue();
+        assertThat(encoder.upgradeEncoding(upgradedHash.get())).isFalse();
+        assertThat(hashingExecutor.hashCount()).isGreaterThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,106 @@
+package com.inghub.loanapi.config;
+
+import com.inghub.loanapi.entity.Role;
+import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.enums.RoleEnum;
+import com.inghub.loanapi.repository.UserRepository;
+import com.inghub.loanapi.service.JwtService;
+import com.inghub.loanapi.service.PrincipalCache;
+import com.inghub.loanapi.service.TokenRevocationRegistry;
+import com.inghub.loanapi.service.TokenVersionRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String LEGACY_TOKEN = "legacy-token";
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private TokenVersionRegistry tokenVersionRegistry;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository);
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, new PrincipalCache(100, 60_000),
+                tokenVersionRegistry, tokenRevocationRegistry, false, handlerExceptionResolver);
+
+        // A token issued before the user id and version claims existed
+        Claims claims = Jwts.claims().setSubject("u@a.com").setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        User user = new User().setId(2).setEmail("u@a.com").setRole(new Role().setName(RoleEnum.CUSTOMER));
+        when(jwtService.parseVerifiedClaims(LEGACY_TOKEN)).thenReturn(claims);
+        when(jwtService.isTokenValid(any(Claims.class), any())).thenReturn(true);
+        when(userDetailsService.loadUserByUsername("u@a.com")).thenReturn(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should Authenticate a Token Without Version Claims While the User Was Never Revoked")
+    void shouldAuthenticateUnversionedToken() throws Exception {
+        // Act
+        filter.doFilter(request(), new MockHttpServletResponse(), filterChain);
+
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should Reject a Token Without Version Claims Once the User's Tokens Were Revoked")
+    void shouldRejectUnversionedTokenAfterRevocation() throws Exception {
+        // Arrange
+        tokenVersionRegistry.update(2, 1);
+
+        // Act
+        filter.doFilter(request(), new MockHttpServletResponse(), filterChain);
+
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/loans");
+        request.addHeader("Authorization", "Bearer " + LEGACY_TOKEN);
+        return request;
+    }
+}
@@ -6,6 +6,9 @@ import com.inghub.loanapi.dto.LoginUserDto;
 import com.inghub.loanapi.entity.User;
 import com.inghub.loanapi.service.AuthenticationService;
 import com.inghub.loanapi.service.JwtService;
+import com.inghub.loanapi.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +41,9 @@ class AuthenticationControllerTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
@@ -57,7 +63,8 @@ class AuthenticationControllerTest {
         String jwtToken = "mock-jwt-token";
 
         when(authenticationService.authenticate(any(LoginUserDto.class))).thenReturn(authenticatedUser);
-        when(jwtService.generateToken(authenticatedUser)).thenReturn(jwtToken);
+        when(authenticationService.findCustomerId(authenticatedUser)).thenReturn(7L);
+        when(jwtService.generateToken(authenticatedUser, 7L)).thenReturn(jwtToken);
         when(jwtService.getExpirationTime()).thenReturn(3600000L); // 1 hour
 
         // Act & Assert
@@ -69,6 +76,20 @@ class AuthenticationControllerTest {
                 .andExpect(jsonPath("$.expiresIn").value(3600000L));
 
         verify(authenticationService).authenticate(any(LoginUserDto.class));
-        verify(jwtService).generateToken(authenticatedUser);
+        verify(jwtService).generateToken(authenticatedUser, 7L);
+    }
+
+    @Test
+    @DisplayName("Should Revoke the Bearer Token on Logout")
+    void shouldRevokeBearerTokenOnLogout() throws Exception {
+        // Arrange
+        Claims claims = Jwts.claims().setSubject("user@example.com").setId("token-id");
+        when(jwtService.parseVerifiedClaims("mock-jwt-token")).thenReturn(claims);
+
+        // Act & Assert
+        mockMvc.perform(post("/auth/logout").header("Authorization", "Bearer mock-jwt-token"))
+                .andExpect(status().isNoContent());
+
+        verify(tokenRevocationService).logout(claims);
     }
 }
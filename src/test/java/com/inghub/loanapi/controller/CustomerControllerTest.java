@@ -3,7 +3,15 @@ package com.inghub.loanapi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inghub.loanapi.dto.CustomerRequest;
 import com.inghub.loanapi.dto.CustomerResponse;
+import com.inghub.loanapi.entity.Role;
+import com.inghub.loanapi.entity.User;
 import com.inghub.loanapi.enums.RoleEnum;
+import com.inghub.loanapi.exception.GlobalExceptionHandler;
+import com.inghub.loanapi.security.AdminOnly;
+import com.inghub.loanapi.security.AdminOrOwner;
+import com.inghub.loanapi.security.OwnershipAuthorizationManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import com.inghub.loanapi.service.CustomerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +21,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -22,6 +36,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -46,6 +61,11 @@ class CustomerControllerTest {
         mockMvc = MockMvcBuilders.standaloneSetup(customerController).build();
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("Should Retrieve Customer by ID Successfully")
     void shouldRetrieveCustomerById() throws Exception {
@@ -106,6 +126,33 @@ class CustomerControllerTest {
         verify(customerService).updateCustomer(eq(1L), any(CustomerRequest.class));
     }
 
+    @Test
+    @DisplayName("Should Forbid a Customer From Changing Their Own Credit Limit")
+    void shouldForbidCustomerFromChangingCreditLimit() throws Exception {
+        // Arrange
+        ProxyFactory proxyFactory = new ProxyFactory(customerController);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new AuthorizationManagerBeforeMethodInterceptor(
+                new ComposablePointcut(AnnotationMatchingPointcut.forMethodAnnotation(AdminOnly.class))
+                        .union(AnnotationMatchingPointcut.forMethodAnnotation(AdminOrOwner.class)),
+                new OwnershipAuthorizationManager(null, null)));
+        MockMvc securedMockMvc = MockMvcBuilders.standaloneSetup(proxyFactory.getProxy())
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
+
+        User owner = new User().setId(2).setEmail("u@a.com").setRole(new Role().setName(RoleEnum.CUSTOMER));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(owner, null, List.of()));
+        CustomerRequest request = new CustomerRequest("John", "Doe", BigDecimal.valueOf(1_000_000), RoleEnum.CUSTOMER);
+
+        // Act & Assert
+        securedMockMvc.perform(put("/api/customers/2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+
+        verify(customerService, never()).updateCustomer(any(), any());
+    }
+
     @Test
     @DisplayName("Should List All Customers Successfully")
     void shouldListAllCustomersSuccessfully() throws Exception {
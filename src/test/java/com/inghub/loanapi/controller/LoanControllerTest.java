@@ -28,6 +28,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -75,6 +76,31 @@ class LoanControllerTest {
         verify(loanService).createLoan(any(LoanRequest.class));
     }
 
+    @Test
+    @DisplayName("Should Create Loans in Batch (Admin User)")
+    @WithMockUser(roles = "ADMIN")
+    void shouldCreateLoansInBatch() throws Exception {
+        // Arrange
+        LoanRequest request = new LoanRequest(1L, BigDecimal.valueOf(5000), BigDecimal.valueOf(0.1), 12);
+        LoanBatchRequest batchRequest = new LoanBatchRequest(List.of(request, request));
+        LoanBatchResponse response = new LoanBatchResponse(2, 1, 1, List.of(
+                LoanBatchItemResult.created(0, new LoanResponse()),
+                LoanBatchItemResult.rejected(1, "Insufficient credit limit for this loan.")));
+
+        when(loanService.createLoans(anyList())).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/loans/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[1].error").value("Insufficient credit limit for this loan."));
+
+        verify(loanService).createLoans(argThat(requests -> requests.size() == 2));
+    }
+
     @Test
     @DisplayName("Should List Loans for Customer (Admin User)")
     @WithMockUser(roles = "ADMIN")
@@ -84,16 +110,39 @@ class LoanControllerTest {
         InstallmentResponse installmentResponse = new InstallmentResponse(1L, 2L, 6, BigDecimal.valueOf(5000), BigDecimal.valueOf(2000), today.plusMonths(6L), today.plusMonths(2L), false, InstallmentStatus.PAID);
         List<InstallmentResponse> installmentResponseList = List.of(installmentResponse);
         LoanResponse response = new LoanResponse(1L, 1L, BigDecimal.valueOf(5000), BigDecimal.valueOf(5500), BigDecimal.valueOf(0.1), 12, null, false, "ACTIVE", installmentResponseList);
-        when(loanService.listLoans(eq(1L), any(), any())).thenReturn(List.of(response));
+        when(loanService.listLoans(eq(1L), any(), any(), any(), eq(50), eq(true))).thenReturn(List.of(response));
 
         // Act & Assert
         mockMvc.perform(get("/api/loans")
                         .param("customerId", "1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].loanId").value(1L));
+                .andExpect(jsonPath("$[0].loanId").value(1L))
+                .andExpect(header().doesNotExist("X-Next-After-Loan-Id"));
+
+        verify(loanService).listLoans(eq(1L), any(), any(), any(), eq(50), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should Return Next Page Cursor When Page Is Full")
+    @WithMockUser(roles = "ADMIN")
+    void shouldReturnNextPageCursorWhenPageIsFull() throws Exception {
+        // Arrange
+        LoanResponse first = LoanResponse.builder().loanId(11L).customerId(1L).build();
+        LoanResponse second = LoanResponse.builder().loanId(12L).customerId(1L).build();
+        when(loanService.listLoans(1L, 12, false, 10L, 2, false)).thenReturn(List.of(first, second));
 
-        verify(loanService).listLoans(eq(1L), any(), any());
+        // Act & Assert
+        mockMvc.perform(get("/api/loans")
+                        .param("customerId", "1")
+                        .param("numInstallments", "12")
+                        .param("isPaid", "false")
+                        .param("afterLoanId", "10")
+                        .param("limit", "2")
+                        .param("includeInstallments", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string("X-Next-After-Loan-Id", "12"));
     }
 
     @Test
@@ -0,0 +1,59 @@
+package com.inghub.loanapi.controller;
+
+import com.inghub.loanapi.exception.GlobalExceptionHandler;
+import com.inghub.loanapi.service.TokenRevocationService;
+import com.inghub.loanapi.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService, tokenRevocationService))
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should Revoke a Token by Its Id")
+    void shouldRevokeTokenById() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/users/tokens/3f1c2b9e-5a7d-4c1e-9b2a-6d8e0f4a1c3b/revoke"))
+                .andExpect(status().isNoContent());
+
+        verify(tokenRevocationService).revoke("3f1c2b9e-5a7d-4c1e-9b2a-6d8e0f4a1c3b");
+    }
+
+    @Test
+    @DisplayName("Should Reject a Token Id That Is Not a UUID With Bad Request")
+    void shouldRejectMalformedTokenId() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/users/tokens/" + "a".repeat(64) + "/revoke"))
+                .andExpect(status().isBadRequest());
+
+        verify(tokenRevocationService, never()).revoke(any());
+    }
+}
@@ -0,0 +1,130 @@
+package com.inghub.loanapi.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<Optional<Duration>> lag = new AtomicReference<>(Optional.of(Duration.ZERO));
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, replica, lag::get, MAX_LAG, meterRegistry, nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("Should Read from the Replica While It Is Within the Tolerated Lag")
+    void shouldReadFromReplicaWithinLag() throws SQLException {
+        // Arrange
+        lag.set(Optional.of(Duration.ofMillis(1500)));
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(replicaConnection);
+        assertThat(reads("replica", "none")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("loan.datasource.replica.lag").gauge().value()).isEqualTo(1500.0);
+    }
+
+    @Test
+    @DisplayName("Should Read from the Primary While the Replica Lags Too Far or Its Lag Is Unknown")
+    void shouldFallBackWhenReplicaLags() throws SQLException {
+        // Arrange
+        lag.set(Optional.of(Duration.ofMillis(2001)));
+
+        // Act
+        Connection lagging = routingDataSource.getConnection();
+        lag.set(Optional.empty());
+        Connection unknown = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(lagging).isSameAs(primaryConnection);
+        assertThat(unknown).isSameAs(primaryConnection);
+        assertThat(reads("primary", "lag")).isEqualTo(2.0);
+        verify(replica, times(0)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should Read from the Primary and Skip the Replica for One Lag Window When It Is Unavailable")
+    void shouldFallBackWhenReplicaUnavailable() throws SQLException {
+        // Arrange
+        when(replica.getConnection())
+                .thenThrow(new SQLTransientConnectionException("replica - Connection is not available"))
+                .thenReturn(replicaConnection);
+
+        // Act
+        Connection failed = routingDataSource.getConnection();
+        nanoTime.addAndGet(MAX_LAG.toNanos() - 1);
+        Connection skipped = routingDataSource.getConnection();
+        nanoTime.addAndGet(1);
+        Connection retried = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(failed).isSameAs(primaryConnection);
+        assertThat(skipped).isSameAs(primaryConnection);
+        assertThat(retried).isSameAs(replicaConnection);
+        assertThat(reads("primary", "unavailable")).isEqualTo(2.0);
+        verify(replica, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should Refuse to Route Reads Without a Replica Lag Probe")
+    void shouldRequireLagProbe() {
+        // Arrange
+        ReadReplicaConfiguration configuration = new ReadReplicaConfiguration();
+
+        // Act & Assert
+        assertThatThrownBy(() -> configuration.dataSource(primary, replica,
+                new StaticListableBeanFactory().getBeanProvider(ReplicaLagProbe.class), MAX_LAG.toMillis(), meterRegistry))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ReplicaLagProbe");
+    }
+
+    private double reads(String target, String fallback) {
+        return meterRegistry.get("loan.datasource.reads").tag("target", target).tag("fallback", fallback).counter().count();
+    }
+}
@@ -0,0 +1,147 @@
+package com.inghub.loanapi.datasource;
+
+import com.inghub.loanapi.dto.mapper.CustomerMapperImpl;
+import com.inghub.loanapi.dto.mapper.LoanMapperImpl;
+import com.inghub.loanapi.entity.Customer;
+import com.inghub.loanapi.entity.Loan;
+import com.inghub.loanapi.enums.LoanStatus;
+import com.inghub.loanapi.money.Money;
+import com.inghub.loanapi.repository.CustomerRepository;
+import com.inghub.loanapi.repository.LoanRepository;
+import com.inghub.loanapi.service.CustomerService;
+import com.inghub.loanapi.service.impl.CustomerServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the customer service on two H2 databases kept in sync by the replication stand-in; the scheduled sync is
+ * pushed out of the way and each test syncs explicitly.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "loan.datasource.replica.enabled=true",
+        "loan.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "loan.datasource.replica.max-lag=3600000",
+        "loan.datasource.replica.stand-in.enabled=true",
+        "loan.datasource.replica.stand-in.sync-interval=3600000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReadReplicaConfiguration.class, CustomerServiceImpl.class, CustomerMapperImpl.class, LoanMapperImpl.class,
+        ReadReplicaRoutingTest.Infrastructure.class})
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private H2ReplicationStandIn replicationStandIn;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private Long customerId;
+
+    @TestConfiguration
+    static class Infrastructure {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = new Customer();
+        customer.setName("Primary");
+        customer.setSurname("Customer");
+        customer.setCreditLimit(new BigDecimal("10000"));
+        customer.setUsedCreditLimit(BigDecimal.ZERO);
+        customerId = customerRepository.save(customer).getId();
+        replicationStandIn.sync();
+    }
+
+    @Test
+    @DisplayName("Should Serve Read-Only Transactions from the Replica and Read-Write Ones from the Primary")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        // Arrange
+        new JdbcTemplate(replicaDataSource).update("UPDATE customers SET name = 'Replica' WHERE id = ?", customerId);
+
+        // Act
+        String readOnlyName = customerService.getCustomerById(customerId).getName();
+        String readWriteName = new TransactionTemplate(transactionManager)
+                .execute(status -> customerRepository.findById(customerId).orElseThrow().getName());
+
+        // Assert
+        assertThat(readOnlyName).isEqualTo("Replica");
+        assertThat(readWriteName).isEqualTo("Primary");
+    }
+
+    @Test
+    @DisplayName("Should Resolve the Owner of a Loan Not Yet on the Replica from the Primary")
+    void shouldResolveOwnershipFromPrimary() {
+        // Arrange
+        Loan loan = new Loan();
+        loan.setCustomer(customerRepository.getReferenceById(customerId));
+        loan.setLoanAmount(Money.of(new BigDecimal("1000")));
+        loan.setTotalAmount(Money.of(new BigDecimal("1100")));
+        loan.setInterestRate(new BigDecimal("0.1"));
+        loan.setNumberOfInstallments(6);
+        loan.setIsPaid(false);
+        loan.setStatus(LoanStatus.ACTIVE);
+        Long loanId = loanRepository.save(loan).getId();
+
+        // Act & Assert
+        assertThat(loanRepository.findCustomerIdById(loanId)).contains(customerId);
+        assertThat(loanRepository.existsById(loanId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should Show Primary Writes on the Replica After the Next Sync")
+    void shouldReplicateWritesOnSync() {
+        // Arrange
+        Customer customer = customerRepository.findById(customerId).orElseThrow();
+        customer.setName("Renamed");
+        customerRepository.save(customer);
+        String beforeSync = customerService.getCustomerById(customerId).getName();
+
+        // Act
+        replicationStandIn.sync();
+
+        // Assert
+        assertThat(beforeSync).isEqualTo("Primary");
+        assertThat(customerService.getCustomerById(customerId).getName()).isEqualTo("Renamed");
+        assertThat(replicationStandIn.currentLag()).isPresent();
+    }
+}
@@ -0,0 +1,134 @@
+package com.inghub.loanapi.money;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    private static final List<Integer> ALLOWED_INSTALLMENTS = List.of(6, 9, 12, 24);
+    private static final int SAMPLES = 20_000;
+
+    private final MoneyAttributeConverter converter = new MoneyAttributeConverter();
+
+    @Test
+    @DisplayName("Should Round to Cents HALF_UP on Conversion")
+    void shouldRoundHalfUpOnConversion() {
+        assertThat(Money.of(new BigDecimal("10.005")).cents()).isEqualTo(1001);
+        assertThat(Money.of(new BigDecimal("10.004")).cents()).isEqualTo(1000);
+        assertThat(Money.of(new BigDecimal("-10.005")).cents()).isEqualTo(-1001);
+        assertThat(Money.of(BigDecimal.valueOf(500)).toString()).isEqualTo("500.00");
+    }
+
+    @Test
+    @DisplayName("Should Round Fractions HALF_UP Away From Zero")
+    void shouldRoundFractionsHalfUp() {
+        assertThat(Money.ofCents(5).multiply(1, 10).cents()).isEqualTo(1);
+        assertThat(Money.ofCents(4).multiply(1, 10).cents()).isEqualTo(0);
+        assertThat(Money.ofCents(-5).multiply(1, 10).cents()).isEqualTo(-1);
+        assertThat(Money.ofCents(100).divide(3).cents()).isEqualTo(33);
+        assertThat(Money.ofCents(200).divide(3).cents()).isEqualTo(67);
+    }
+
+    @Test
+    @DisplayName("Should Fail on Overflow Instead of Wrapping")
+    void shouldFailOnOverflow() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.plus(Money.ofCents(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.multiply(2, 1)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Should Fall Back to Exact Math for High Precision Factors")
+    void shouldFallBackForHighPrecisionFactors() {
+        Money amount = Money.of(new BigDecimal("1234.56"));
+        BigDecimal factor = new BigDecimal("1.123456789012345678901");
+
+        assertThat(amount.multiply(factor).toBigDecimal())
+                .isEqualTo(amount.toBigDecimal().multiply(factor).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    @DisplayName("Should Round Trip Through the Attribute Converter")
+    void shouldRoundTripThroughConverter() {
+        Money money = Money.of(new BigDecimal("5750.25"));
+
+        BigDecimal column = converter.convertToDatabaseColumn(money);
+
+        assertThat(column).isEqualTo(new BigDecimal("5750.25"));
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(money);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    // Differential checks against the BigDecimal formulas the loan schedule used before Money
+
+    @Test
+    @DisplayName("Should Match BigDecimal Total Loan Amount")
+    void shouldMatchBigDecimalTotalAmount() {
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal amount = randomAmount(random);
+            BigDecimal interestRate = BigDecimal.valueOf(100 + random.nextInt(401), 3);
+
+            BigDecimal expected = amount.multiply(BigDecimal.ONE.add(interestRate)).setScale(2, RoundingMode.HALF_UP);
+            Money actual = Money.of(amount).multiply(BigDecimal.ONE.add(interestRate));
+
+            assertThat(actual.toBigDecimal()).as("%s * (1 + %s)", amount, interestRate).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should Match BigDecimal Installment Amount")
+    void shouldMatchBigDecimalInstallmentAmount() {
+        Random random = new Random(7);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal total = randomAmount(random);
+            int installments = ALLOWED_INSTALLMENTS.get(random.nextInt(ALLOWED_INSTALLMENTS.size()));
+
+            BigDecimal expected = total.divide(BigDecimal.valueOf(installments), 2, RoundingMode.HALF_UP);
+            Money actual = Money.of(total).divide(installments);
+
+            assertThat(actual.toBigDecimal()).as("%s / %d", total, installments).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should Match BigDecimal Discounted and Penalized Amounts Rounded to Cents")
+    void shouldMatchBigDecimalPaidAmount() {
+        Random random = new Random(11);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal amount = randomAmount(random);
+            long daysDifference = random.nextInt(2001) - 1000;
+
+            BigDecimal expected = referencePaidAmount(amount, daysDifference).setScale(2, RoundingMode.HALF_UP);
+            Money actual = Money.of(amount).multiply(1000 - daysDifference, 1000).max(Money.ZERO);
+
+            assertThat(actual.toBigDecimal()).as("%s with %d days", amount, daysDifference).isEqualTo(expected);
+        }
+    }
+
+    private static BigDecimal referencePaidAmount(BigDecimal amount, long daysDifference) {
+        BigDecimal paidAmount = amount;
+        if (daysDifference > 0) {
+            BigDecimal discount = amount.multiply(BigDecimal.valueOf(0.001)).multiply(BigDecimal.valueOf(daysDifference));
+            paidAmount = paidAmount.subtract(discount).max(BigDecimal.ZERO);
+        } else if (daysDifference < 0) {
+            BigDecimal penalty = amount.multiply(BigDecimal.valueOf(0.001)).multiply(BigDecimal.valueOf(Math.abs(daysDifference)));
+            paidAmount = paidAmount.add(penalty);
+        }
+        return paidAmount;
+    }
+
+    private static BigDecimal randomAmount(Random random) {
+        return BigDecimal.valueOf(1 + (random.nextLong() & Long.MAX_VALUE) % 10_000_000_000L, 2);
+    }
+}
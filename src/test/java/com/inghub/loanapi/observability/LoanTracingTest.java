@@ -0,0 +1,122 @@
+package com.inghub.loanapi.observability;
+
+import com.inghub.loanapi.dto.LoanRequest;
+import com.inghub.loanapi.dto.mapper.LoanMapperImpl;
+import com.inghub.loanapi.entity.Customer;
+import com.inghub.loanapi.service.LoanService;
+import com.inghub.loanapi.service.impl.LoanServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.opentelemetry.OpenTelemetryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.MicrometerTracingAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.OpenTelemetryTracingAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs createLoan with the OpenTelemetry tracer and an in-memory exporter, and checks the span tree.
+ * Span names are the lower-hyphen form of the observations' contextual names.
+ */
+@DataJpaTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureObservability(metrics = false)
+@ImportAutoConfiguration({AopAutoConfiguration.class, ObservationAutoConfiguration.class,
+        OpenTelemetryAutoConfiguration.class, OpenTelemetryTracingAutoConfiguration.class,
+        MicrometerTracingAutoConfiguration.class})
+@Import({LoanServiceImpl.class, LoanMapperImpl.class, RepositoryObservationAspect.class,
+        LoanTracingTest.Infrastructure.class})
+class LoanTracingTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @TestConfiguration
+    static class Infrastructure {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+
+    @Test
+    @DisplayName("Should Trace Each Create Loan Phase With Its Repository Calls as Children")
+    void shouldTraceCreateLoanPhases() {
+        // Arrange
+        Customer customer = new Customer();
+        customer.setName("John");
+        customer.setSurname("Doe");
+        customer.setCreditLimit(BigDecimal.valueOf(100000));
+        entityManager.persist(customer);
+        entityManager.flush();
+        LoanRequest request = new LoanRequest();
+        request.setCustomerId(customer.getId());
+        request.setAmount(BigDecimal.valueOf(1200));
+        request.setInterestRate(BigDecimal.valueOf(0.2));
+        request.setNumberOfInstallments(6);
+        spanExporter.reset();
+
+        // Act
+        Observation.createNotStarted("test.request", observationRegistry)
+                .observe(() -> loanService.createLoan(request));
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        // Assert
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        Map<String, SpanData> byName = spans.stream()
+                .collect(Collectors.toMap(SpanData::getName, Function.identity(), (first, second) -> first));
+        assertThat(byName).containsKeys("test.request", "loan validate", "loan update-credit", "loan fetch-customer",
+                "loan build-schedule", "loan persist", "customer-repository.reserve-credit", "loan-repository.save");
+        assertThat(spans).extracting(SpanData::getTraceId).containsOnly(byName.get("test.request").getTraceId());
+        assertThat(byName.get("loan persist").getParentSpanId()).isEqualTo(byName.get("test.request").getSpanId());
+        assertThat(byName.get("loan-repository.save").getParentSpanId()).isEqualTo(byName.get("loan persist").getSpanId());
+        assertThat(byName.get("customer-repository.reserve-credit").getParentSpanId())
+                .isEqualTo(byName.get("loan update-credit").getSpanId());
+    }
+}
@@ -0,0 +1,58 @@
+package com.inghub.loanapi.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LogSamplerTest {
+
+    @Test
+    @DisplayName("Should Let Through at Most the Configured Events per Second")
+    void shouldLimitEventsPerSecond() {
+        // Arrange
+        AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        LogSampler sampler = new LogSampler(3, nanoTime::get);
+
+        // Act
+        int granted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (sampler.tryAcquire()) {
+                granted++;
+            }
+        }
+
+        // Assert
+        assertThat(granted).isEqualTo(3);
+        assertThat(sampler.suppressedCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should Grant Events Again in the Next Second")
+    void shouldResetInNextSecond() {
+        // Arrange
+        AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        LogSampler sampler = new LogSampler(1, nanoTime::get);
+        assertThat(sampler.tryAcquire()).isTrue();
+        assertThat(sampler.tryAcquire()).isFalse();
+
+        // Act
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Assert
+        assertThat(sampler.tryAcquire()).isTrue();
+        assertThat(sampler.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should Reject a Non-Positive Rate")
+    void shouldRejectNonPositiveRate() {
+        // Act & Assert
+        assertThatThrownBy(() -> new LogSampler(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
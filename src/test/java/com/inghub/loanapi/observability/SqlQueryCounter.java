@@ -0,0 +1,44 @@
+package com.inghub.loanapi.observability;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL a piece of work sends, using the same accounting as the per-request filter.
+ * The persistence unit under test needs the three {@code *_PROPERTY} settings below.
+ */
+public final class SqlQueryCounter {
+
+    public static final String STATEMENT_INSPECTOR_PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.inghub.loanapi.observability.SqlStatementCounter";
+    public static final String GENERATE_STATISTICS_PROPERTY =
+            "spring.jpa.properties.hibernate.generate_statistics=true";
+    public static final String STATISTICS_FACTORY_PROPERTY =
+            "spring.jpa.properties.hibernate.stats.factory=com.inghub.loanapi.observability.RequestSqlStatisticsFactory";
+
+    private SqlQueryCounter() {
+    }
+
+    public static RequestSqlStatistics count(Runnable work) {
+        RequestSqlStatistics statistics = RequestSqlStatistics.start();
+        try {
+            work.run();
+        } finally {
+            RequestSqlStatistics.stop();
+        }
+        return statistics;
+    }
+
+    /**
+     * Runs the work, fails unless it sent exactly {@code expectedStatements} statements, and returns its result.
+     */
+    public static <T> T assertStatements(long expectedStatements, Supplier<T> work) {
+        Object[] result = new Object[1];
+        RequestSqlStatistics statistics = count(() -> result[0] = work.get());
+        assertThat(statistics.statements()).as("SQL statements (%s)", statistics).isEqualTo(expectedStatements);
+        @SuppressWarnings("unchecked")
+        T typed = (T) result[0];
+        return typed;
+    }
+}
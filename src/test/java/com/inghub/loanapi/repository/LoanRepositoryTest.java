@@ -0,0 +1,161 @@
+package com.inghub.loanapi.repository;
+
+import com.inghub.loanapi.dto.LoanResponse;
+import com.inghub.loanapi.dto.mapper.LoanMapper;
+import com.inghub.loanapi.entity.Customer;
+import com.inghub.loanapi.entity.Loan;
+import com.inghub.loanapi.entity.LoanInstallment;
+import com.inghub.loanapi.enums.InstallmentStatus;
+import com.inghub.loanapi.enums.LoanStatus;
+import com.inghub.loanapi.money.Money;
+import com.inghub.loanapi.repository.projection.LoanInstallmentView;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class LoanRepositoryTest {
+
+    private static final int LOANS = 5;
+    private static final int INSTALLMENTS = 6;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LoanMapper loanMapper = LoanMapper.INSTANCE;
+
+    private Long customerId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = new Customer();
+        customer.setName("John");
+        customer.setSurname("Doe");
+        customer.setCreditLimit(BigDecimal.valueOf(100000));
+        entityManager.persist(customer);
+        customerId = customer.getId();
+
+        for (int i = 0; i < LOANS; i++) {
+            entityManager.persist(loanWithInstallments(customer));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should List Loans With Installments in Two Statements")
+    void shouldListLoansWithInstallmentsInTwoStatements() {
+        // Act
+        List<Loan> page = loanRepository.findPageByCustomerId(customerId, null, null, 0L, Limit.of(50));
+        List<LoanResponse> loans = loanMapper.toLoanResponseList(
+                loanRepository.findWithInstallmentsByIdIn(page.stream().map(Loan::getId).toList()));
+
+        // Assert
+        assertThat(loans).hasSize(LOANS);
+        assertThat(loans).allSatisfy(loan -> {
+            assertThat(loan.getCustomerId()).isEqualTo(customerId);
+            assertThat(loan.getInstallments()).hasSize(INSTALLMENTS);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should List Loans Without Installments in One Statement")
+    void shouldListLoansWithoutInstallmentsInOneStatement() {
+        // Act
+        List<LoanResponse> loans = loanMapper.toLoanSummaryResponseList(
+                loanRepository.findPageByCustomerId(customerId, null, false, 0L, Limit.of(50)));
+
+        // Assert
+        assertThat(loans).hasSize(LOANS);
+        assertThat(loans).allSatisfy(loan -> {
+            assertThat(loan.getCustomerId()).isEqualTo(customerId);
+            assertThat(loan.getInstallments()).isNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should Project Installments Without Managing Entities")
+    void shouldProjectInstallmentsWithoutManagingEntities() {
+        // Arrange
+        Long loanId = loanRepository.findPageByCustomerId(customerId, null, null, 0L, Limit.of(1)).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        List<LoanInstallmentView> installments = loanRepository.findInstallmentViewsByLoanId(loanId);
+
+        // Assert
+        assertThat(installments).hasSize(INSTALLMENTS);
+        assertThat(installments).extracting(LoanInstallmentView::installmentNumber).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(installments).allSatisfy(installment -> {
+            assertThat(installment.loanId()).isEqualTo(loanId);
+            assertThat(installment.amount()).isEqualTo(Money.of(BigDecimal.valueOf(220)));
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should Return Only Unpaid Installments Inside the Payment Window in Due Date Order")
+    void shouldReturnPayableInstallmentsOnly() {
+        // Arrange
+        Loan loan = loanRepository.findWithInstallmentsByIdIn(
+                loanRepository.findPageByCustomerId(customerId, null, null, 0L, Limit.of(1)).stream().map(Loan::getId).toList()).get(0);
+        loan.getInstallments().get(0).setIsPaid(true);
+        entityManager.flush();
+        entityManager.clear();
+        LocalDate latestDueDate = LocalDate.now().plusMonths(3);
+
+        // Act
+        List<LoanInstallment> payable = loanRepository.findPayableInstallmentsForUpdate(loan.getId(), latestDueDate);
+
+        // Assert
+        assertThat(payable).extracting(LoanInstallment::getInstallmentNumber).containsExactly(2, 3);
+        assertThat(loanRepository.existsUnpaidInstallmentDueAfter(loan.getId(), latestDueDate)).isTrue();
+        assertThat(loanRepository.existsUnpaidInstallmentDueAfter(loan.getId(), LocalDate.now().plusMonths(INSTALLMENTS))).isFalse();
+    }
+
+    private static Loan loanWithInstallments(Customer customer) {
+        Loan loan = new Loan();
+        loan.setCustomer(customer);
+        loan.setLoanAmount(Money.of(BigDecimal.valueOf(1200)));
+        loan.setTotalAmount(Money.of(BigDecimal.valueOf(1320)));
+        loan.setInterestRate(BigDecimal.valueOf(0.1));
+        loan.setNumberOfInstallments(INSTALLMENTS);
+        loan.setIsPaid(false);
+        loan.setStatus(LoanStatus.ACTIVE);
+
+        for (int i = 1; i <= INSTALLMENTS; i++) {
+            LoanInstallment installment = new LoanInstallment();
+            installment.setLoan(loan);
+            installment.setInstallmentNumber(i);
+            installment.setAmount(Money.of(BigDecimal.valueOf(220)));
+            installment.setDueDate(LocalDate.now().plusMonths(i));
+            installment.setIsPaid(false);
+            installment.setStatus(InstallmentStatus.PENDING);
+            loan.getInstallments().add(installment);
+        }
+        return loan;
+    }
+}
@@ -0,0 +1,49 @@
+package com.inghub.loanapi.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with H2 EXPLAIN that the hot lookups are planned on the indexes from the Flyway migrations.
+ */
+@DataJpaTest
+class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should Use Installment Index for Payable Installment Lookup")
+    void shouldUseInstallmentIndexForPayableLookup() {
+        String plan = explain("SELECT * FROM loan_installments " +
+                "WHERE loan_id = 1 AND is_paid = FALSE AND due_date <= DATE '2030-01-01' ORDER BY due_date");
+
+        assertThat(plan).containsIgnoringCase("IDX_LOAN_INSTALLMENTS_LOAN_PAID_DUE");
+    }
+
+    @Test
+    @DisplayName("Should Use Loan Index for Filtered Loan Listing")
+    void shouldUseLoanIndexForFilteredListing() {
+        String plan = explain("SELECT * FROM loans " +
+                "WHERE customer_id = 1 AND is_paid = FALSE AND number_of_installments = 12 AND id > 0 ORDER BY id");
+
+        assertThat(plan).containsIgnoringCase("IDX_LOANS_CUSTOMER_PAID_INSTALLMENTS");
+    }
+
+    @Test
+    @DisplayName("Should Use Email Index for User Lookup")
+    void shouldUseEmailIndexForUserLookup() {
+        String plan = explain("SELECT * FROM users WHERE email = 'a@a.com'");
+
+        assertThat(plan).containsIgnoringCase("IDX_USERS_EMAIL");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.inghub.loanapi.security;
+
+import com.inghub.loanapi.entity.Role;
+import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.enums.RoleEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OwnershipAuthorizationManagerTest {
+
+    private static final Map<Long, Long> LOAN_OWNERS = Map.of(100L, 1L, 200L, 2L);
+
+    private final AtomicInteger loanLookups = new AtomicInteger();
+    private final Endpoints endpoints = new Endpoints();
+    private OwnershipAuthorizationManager authorizationManager;
+
+    @BeforeEach
+    void setUp() {
+        OwnershipResolver ownershipResolver = new OwnershipResolver(
+                loanId -> {
+                    loanLookups.incrementAndGet();
+                    return Optional.ofNullable(LOAN_OWNERS.get(loanId));
+                },
+                userId -> userId == 10 ? Optional.of(1L) : Optional.empty(),
+                100, 60_000);
+        authorizationManager = new OwnershipAuthorizationManager(ownershipResolver, null);
+    }
+
+    @Test
+    @DisplayName("Should Allow Admins Everywhere and Customers Only on Their Own Customer Id")
+    void shouldCheckCustomerOwnership() throws Exception {
+        // Arrange
+        Authentication admin = authentication(99, RoleEnum.ADMIN);
+        Authentication customer = authentication(10, RoleEnum.CUSTOMER);
+
+        // Act & Assert
+        assertThat(isGranted(admin, "adminOnly")).isTrue();
+        assertThat(isGranted(admin, "customerEndpoint", 2L)).isTrue();
+        assertThat(isGranted(customer, "adminOnly")).isFalse();
+        assertThat(isGranted(customer, "customerEndpoint", 1L)).isTrue();
+        assertThat(isGranted(customer, "customerEndpoint", 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should Resolve Loan Ownership Through the Cached Lookup")
+    void shouldCheckLoanOwnershipThroughCache() throws Exception {
+        // Arrange
+        Authentication customer = authentication(10, RoleEnum.CUSTOMER);
+
+        // Act & Assert
+        assertThat(isGranted(customer, "loanEndpoint", 100L)).isTrue();
+        assertThat(isGranted(customer, "loanEndpoint", 100L)).isTrue();
+        assertThat(isGranted(customer, "loanEndpoint", 200L)).isFalse();
+        assertThat(isGranted(customer, "loanEndpoint", 999L)).isFalse();
+        assertThat(loanLookups).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should Deny Customers Without a Customer Record")
+    void shouldDenyCustomerWithoutCustomerRecord() throws Exception {
+        // Act & Assert
+        assertThat(isGranted(authentication(11, RoleEnum.CUSTOMER), "customerEndpoint", 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should Fail to Compile an Ownership Check on an Unknown Parameter")
+    void shouldRejectUnknownParameter() {
+        // Act & Assert
+        assertThatThrownBy(() -> OwnershipAuthorizationManager.compile(Endpoints.class.getMethod("misnamed", Long.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("customerId");
+    }
+
+    private boolean isGranted(Authentication authentication, String methodName, Object... arguments) throws Exception {
+        Class<?>[] parameterTypes = arguments.length == 0 ? new Class<?>[0] : new Class<?>[]{Long.class};
+        SimpleMethodInvocation invocation = new SimpleMethodInvocation(endpoints, Endpoints.class.getMethod(methodName, parameterTypes), arguments);
+        return authorizationManager.check(() -> authentication, invocation).isGranted();
+    }
+
+    private static Authentication authentication(int userId, RoleEnum role) {
+        User user = new User().setId(userId).setEmail(userId + "@a.com").setRole(new Role().setName(role));
+        return new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    static class Endpoints {
+
+        @AdminOnly
+        public void adminOnly() {
+        }
+
+        @AdminOrOwner(resource = OwnedResource.CUSTOMER, parameter = "customerId")
+        public void customerEndpoint(Long customerId) {
+        }
+
+        @AdminOrOwner(resource = OwnedResource.LOAN, parameter = "loanId")
+        public void loanEndpoint(Long loanId) {
+        }
+
+        @AdminOrOwner(resource = OwnedResource.CUSTOMER, parameter = "customerId")
+        public void misnamed(Long id) {
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.inghub.loanapi.service;
 
 import com.inghub.loanapi.dto.LoginUserDto;
 import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.repository.CustomerRepository;
 import com.inghub.loanapi.repository.RoleRepository;
 import com.inghub.loanapi.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +19,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +39,9 @@ class AuthenticationServiceTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private CustomerRepository customerRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -61,18 +66,16 @@ class AuthenticationServiceTest {
         // Arrange
         User user = new User().setEmail("user@example.com");
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(new UsernamePasswordAuthenticationToken("user@example.com", "password"));
-        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+                .thenReturn(new UsernamePasswordAuthenticationToken(user, null, List.of()));
 
         // Act
         User result = authenticationService.authenticate(loginUserDto);
 
         // Assert
-        assertThat(result).isNotNull();
-        assertThat(result.getEmail()).isEqualTo("user@example.com");
+        assertThat(result).isSameAs(user);
 
         verify(authenticationManager).authenticate(authenticationTokenCaptor.capture());
-        verify(userRepository).findByEmail("user@example.com");
+        verify(userRepository, never()).findByEmail(anyString());
 
         UsernamePasswordAuthenticationToken token = authenticationTokenCaptor.getValue();
         assertThat(token.getPrincipal()).isEqualTo("user@example.com");
@@ -96,7 +99,7 @@ class AuthenticationServiceTest {
     }
 
     @Test
-    @DisplayName("Should Throw Exception When User Not Found")
+    @DisplayName("Should Throw Exception When a Non-User Principal Has No Account")
     void shouldThrowExceptionWhenUserNotFound() {
         // Arrange
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
@@ -110,4 +113,15 @@ class AuthenticationServiceTest {
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userRepository).findByEmail("user@example.com");
     }
+
+    @Test
+    @DisplayName("Should Find the Customer Owned by the User")
+    void shouldFindCustomerOwnedByUser() {
+        // Arrange
+        User user = new User().setId(3).setEmail("user@example.com");
+        when(customerRepository.findIdByUserId(3)).thenReturn(Optional.of(11L));
+
+        // Act & Assert
+        assertThat(authenticationService.findCustomerId(user)).isEqualTo(11L);
+    }
 }
@@ -0,0 +1,172 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.exception.LoanAlreadyPaidException;
+import com.inghub.loanapi.exception.MutationRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerMailboxExecutorTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private CustomerMailboxExecutor mailboxExecutor;
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (mailboxExecutor != null) {
+            mailboxExecutor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should Run Mutations of the Same Customer One at a Time")
+    void shouldSerializeMutationsOfSameCustomer() throws Exception {
+        // Arrange
+        mailboxExecutor = new CustomerMailboxExecutor(4, 100, TIMEOUT_MILLIS);
+        int[] counter = {0};
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+
+        // Act: an unsynchronized read-modify-write would lose updates without the mailbox
+        for (int i = 0; i < 50; i++) {
+            calls.add(CompletableFuture.runAsync(() -> mailboxExecutor.execute(7L, () -> {
+                int current = counter[0];
+                Thread.yield();
+                counter[0] = current + 1;
+                return null;
+            }), callers));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(counter[0]).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Should Run Different Lanes in Parallel")
+    void shouldRunDifferentLanesInParallel() throws Exception {
+        // Arrange
+        mailboxExecutor = new CustomerMailboxExecutor(2, 10, TIMEOUT_MILLIS);
+        assertThat(mailboxExecutor.laneIndex(1L)).isNotEqualTo(mailboxExecutor.laneIndex(2L));
+        CountDownLatch bothRunning = new CountDownLatch(2);
+
+        // Act: each mutation waits for the other one, which only completes if both lanes run at once
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> mailboxExecutor.execute(1L, () -> rendezvous(bothRunning)), callers);
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> mailboxExecutor.execute(2L, () -> rendezvous(bothRunning)), callers);
+
+        // Assert
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should Reject Mutations When the Mailbox Is Full")
+    void shouldRejectWhenMailboxIsFull() throws Exception {
+        // Arrange
+        mailboxExecutor = new CustomerMailboxExecutor(1, 1, TIMEOUT_MILLIS);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> mailboxExecutor.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return completed.add("running");
+        }), callers);
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> mailboxExecutor.execute(1L, () -> completed.add("queued")), callers);
+        waitForQueueDepth(1);
+
+        // Act & Assert
+        assertThat(mailboxExecutor.totalQueueDepth()).isEqualTo(1);
+        assertThatThrownBy(() -> mailboxExecutor.execute(1L, () -> completed.add("rejected")))
+                .isInstanceOf(MutationRejectedException.class);
+        assertThat(mailboxExecutor.rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        CompletableFuture.allOf(running, queued).get(5, TimeUnit.SECONDS);
+        assertThat(completed).containsExactly("running", "queued");
+    }
+
+    @Test
+    @DisplayName("Should Reject a Mutation Stuck Behind a Slow One Once the Timeout Passes")
+    void shouldRejectQueuedMutationAfterTimeout() throws Exception {
+        // Arrange
+        mailboxExecutor = new CustomerMailboxExecutor(1, 10, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<Void> stuck = CompletableFuture.runAsync(() -> mailboxExecutor.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return completed.add("stuck");
+        }), callers);
+        started.await(5, TimeUnit.SECONDS);
+
+        // Act
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> mailboxExecutor.execute(1L, () -> completed.add("timed out")))
+                .isInstanceOf(MutationRejectedException.class);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Assert
+        assertThat(waitedMillis).isLessThan(2000);
+        assertThat(mailboxExecutor.totalQueueDepth()).isZero();
+        assertThat(mailboxExecutor.rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        stuck.get(5, TimeUnit.SECONDS);
+        assertThat(mailboxExecutor.execute(1L, () -> completed.add("after"))).isTrue();
+        assertThat(completed).containsExactly("stuck", "after");
+    }
+
+    @Test
+    @DisplayName("Should Rethrow Exceptions From the Mutation Unchanged")
+    void shouldRethrowMutationExceptions() {
+        // Arrange
+        mailboxExecutor = new CustomerMailboxExecutor(2, 10, TIMEOUT_MILLIS);
+
+        // Act & Assert
+        assertThatThrownBy(() -> mailboxExecutor.execute(1L, () -> {
+            throw new LoanAlreadyPaidException("Loan is already fully paid.");
+        }))
+                .isInstanceOf(LoanAlreadyPaidException.class)
+                .hasMessage("Loan is already fully paid.");
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (mailboxExecutor.totalQueueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static boolean rendezvous(CountDownLatch latch) {
+        latch.countDown();
+        return awaitQuietly(latch);
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -158,7 +158,7 @@ class CustomerServiceImplTest {
         CustomerResponse response1 = buildCustomerResponse(1L, "John", "Doe", BigDecimal.valueOf(5000), Collections.emptyList());
         CustomerResponse response2 = buildCustomerResponse(2L, "Jane", "Smith", BigDecimal.valueOf(3000), Collections.emptyList());
 
-        when(customerRepository.findAll()).thenReturn(List.of(customer1, customer2));
+        when(customerRepository.findAllWithLoans()).thenReturn(List.of(customer1, customer2));
         when(customerMapper.toResponse(customer1)).thenReturn(response1);
         when(customerMapper.toResponse(customer2)).thenReturn(response2);
 
@@ -171,7 +171,7 @@ class CustomerServiceImplTest {
                 .extracting(CustomerResponse::getName)
                 .containsExactly("John", "Jane");
 
-        verify(customerRepository).findAll();
+        verify(customerRepository).findAllWithLoans();
         verify(customerMapper, times(2)).toResponse(any(Customer.class));
     }
 
@@ -0,0 +1,100 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.dto.FlightRecordingResponse;
+import com.inghub.loanapi.exception.FlightRecordingStateException;
+import com.inghub.loanapi.exception.InvalidRecordingParameterException;
+import com.inghub.loanapi.observability.jfr.PaymentAllocationEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecorderServiceTest {
+
+    private final FlightRecorderService flightRecorderService = new FlightRecorderService(60_000, 10_000_000);
+
+    @AfterEach
+    void tearDown() {
+        flightRecorderService.destroy();
+    }
+
+    @Test
+    @DisplayName("Should Dump Committed Loan API Events from the Running Recording")
+    void shouldDumpCommittedEvents() throws Exception {
+        // Arrange
+        flightRecorderService.start(30_000, "default");
+        PaymentAllocationEvent event = new PaymentAllocationEvent();
+        event.begin();
+        event.setLoanId(42L);
+        event.setInstallmentsPaid(3);
+        event.commit();
+
+        // Act
+        Path dump = flightRecorderService.dump();
+
+        // Assert
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                    .filter(recorded -> recorded.getEventType().getName().equals("com.inghub.loanapi.PaymentAllocation"))
+                    .toList();
+            assertThat(events).hasSize(1);
+            assertThat(events.get(0).getLong("loanId")).isEqualTo(42L);
+            assertThat(events.get(0).getInt("installmentsPaid")).isEqualTo(3);
+            assertThat(flightRecorderService.status().getState()).isEqualTo("RUNNING");
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    @Test
+    @DisplayName("Should Bound the Recording by Duration and Size")
+    void shouldBoundRecording() {
+        // Act
+        FlightRecordingResponse status = flightRecorderService.start(5_000, "profile");
+
+        // Assert
+        assertThat(status.getDurationMillis()).isEqualTo(5_000L);
+        assertThat(status.getMaxSizeBytes()).isEqualTo(10_000_000L);
+        assertThat(status.getSettings()).isEqualTo("profile");
+    }
+
+    @Test
+    @DisplayName("Should Reject Durations Above the Maximum and Unknown Settings")
+    void shouldRejectInvalidParameters() {
+        // Act & Assert
+        assertThatThrownBy(() -> flightRecorderService.start(60_001, "default"))
+                .isInstanceOf(InvalidRecordingParameterException.class);
+        assertThatThrownBy(() -> flightRecorderService.start(1_000, "verbose"))
+                .isInstanceOf(InvalidRecordingParameterException.class);
+        assertThat(flightRecorderService.status()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should Allow Only One Running Recording and Restart After Stop")
+    void shouldAllowOneRunningRecording() {
+        // Arrange
+        FlightRecordingResponse first = flightRecorderService.start(30_000, "default");
+
+        // Act & Assert
+        assertThatThrownBy(() -> flightRecorderService.start(30_000, "default"))
+                .isInstanceOf(FlightRecordingStateException.class);
+        assertThat(flightRecorderService.stop().getState()).isEqualTo("STOPPED");
+        assertThatThrownBy(flightRecorderService::stop).isInstanceOf(FlightRecordingStateException.class);
+        assertThat(flightRecorderService.start(30_000, "default").getId()).isNotEqualTo(first.getId());
+    }
+
+    @Test
+    @DisplayName("Should Refuse to Dump When Nothing Was Recorded")
+    void shouldRefuseDumpWithoutRecording() {
+        // Act & Assert
+        assertThatThrownBy(flightRecorderService::dump).isInstanceOf(FlightRecordingStateException.class);
+    }
+}
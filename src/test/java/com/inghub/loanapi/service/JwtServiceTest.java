@@ -1,8 +1,12 @@
 package com.inghub.loanapi.service;
 
+import com.inghub.loanapi.entity.Role;
+import com.inghub.loanapi.enums.RoleEnum;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,7 +15,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Date;
 import java.util.HashMap;
@@ -39,11 +42,8 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
         String secureBase64Key = "3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007="; // This is a valid 256-bit Base64 key
-
-        ReflectionTestUtils.setField(jwtService, "secretKey", secureBase64Key);
-        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TEST_EXPIRATION);
+        jwtService = new JwtService(secureBase64Key, TEST_EXPIRATION);
 
         userDetails = User.builder()
                 .username(TEST_USERNAME)
@@ -149,6 +149,68 @@ class JwtServiceTest {
     }
 
 
+    @Test
+    @DisplayName("Should Parse Verified Claims Once and Validate Against Them")
+    void shouldValidateAgainstVerifiedClaims() {
+        // Arrange
+        String token = jwtService.generateToken(userDetails);
+
+        // Act
+        Claims claims = jwtService.parseVerifiedClaims(token);
+
+        // Assert
+        assertThat(claims.getSubject()).isEqualTo(TEST_USERNAME);
+        assertThat(jwtService.isTokenValid(claims, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should Reject Expired Token")
+    void shouldRejectExpiredToken() {
+        // Arrange
+        JwtService expiringJwtService = new JwtService("3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007=", -1000);
+        String token = expiringJwtService.generateToken(userDetails);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtService.parseVerifiedClaims(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should Reject Token Signed With Another Key")
+    void shouldRejectTokenSignedWithAnotherKey() {
+        // Arrange
+        JwtService otherJwtService = new JwtService("c2VjcmV0LWtleS1mb3ItYW5vdGhlci1zZXJ2aWNlLTEyMzQ1Njc4OTA=", TEST_EXPIRATION);
+        String token = otherJwtService.generateToken(userDetails);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtService.parseVerifiedClaims(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("Should Build Principal From Signed User Claims")
+    void shouldBuildPrincipalFromSignedClaims() {
+        // Arrange
+        com.inghub.loanapi.entity.User user = new com.inghub.loanapi.entity.User()
+                .setId(5)
+                .setEmail(TEST_USERNAME)
+                .setRole(new Role().setName(RoleEnum.CUSTOMER))
+                .setTokenVersion(2);
+
+        // Act
+        Claims claims = jwtService.parseVerifiedClaims(jwtService.generateToken(user, 9L));
+        JwtPrincipal principal = JwtPrincipal.fromClaims(claims);
+
+        // Assert
+        assertThat(JwtPrincipal.isPresentIn(claims)).isTrue();
+        assertThat(principal.getId()).isEqualTo(5);
+        assertThat(principal.getCustomerId()).isEqualTo(9L);
+        assertThat(principal.getUsername()).isEqualTo(TEST_USERNAME);
+        assertThat(principal.getTokenVersion()).isEqualTo(2);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_CUSTOMER");
+        assertThat(jwtService.isTokenValid(claims, principal)).isTrue();
+    }
+
     @Test
     @DisplayName("Should Handle Malformed Token Gracefully")
     void shouldHandleMalformedTokenGracefully() {
@@ -12,25 +12,37 @@ import com.inghub.loanapi.exception.CustomerNotFoundException;
 import com.inghub.loanapi.exception.InsufficientCreditException;
 import com.inghub.loanapi.exception.InvalidLoanParameterException;
 import com.inghub.loanapi.exception.LoanAlreadyPaidException;
+import com.inghub.loanapi.exception.LoanNotFoundException;
+import com.inghub.loanapi.money.Money;
 import com.inghub.loanapi.repository.CustomerRepository;
 import com.inghub.loanapi.repository.LoanRepository;
+import com.inghub.loanapi.repository.projection.LoanInstallmentView;
 import com.inghub.loanapi.service.impl.LoanServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +57,18 @@ class LoanServiceImplTest {
     @Mock
     private LoanMapper loanMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @InjectMocks
     private LoanServiceImpl loanService;
 
@@ -64,8 +88,8 @@ class LoanServiceImplTest {
         loan = new Loan();
         loan.setId(1L);
         loan.setCustomer(customer);
-        loan.setLoanAmount(BigDecimal.valueOf(5000));
-        loan.setTotalAmount(BigDecimal.valueOf(5500));
+        loan.setLoanAmount(Money.of(BigDecimal.valueOf(5000)));
+        loan.setTotalAmount(Money.of(BigDecimal.valueOf(5500)));
         loan.setInterestRate(BigDecimal.valueOf(0.1));
         loan.setNumberOfInstallments(12);
         loan.setIsPaid(false);
@@ -78,7 +102,8 @@ class LoanServiceImplTest {
     @DisplayName("Should Create Loan Successfully")
     void shouldCreateLoanSuccessfully() {
         // Arrange
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.reserveCredit(eq(1L), any(BigDecimal.class))).thenReturn(1);
+        when(customerRepository.getReferenceById(1L)).thenReturn(customer);
         when(loanRepository.save(any(Loan.class))).thenReturn(loan);
         when(loanMapper.toLoanResponse(any())).thenReturn(new LoanResponse());
 
@@ -87,16 +112,49 @@ class LoanServiceImplTest {
 
         // Assert
         assertThat(response).isNotNull();
-        verify(customerRepository).findById(1L);
+        verify(customerRepository).reserveCredit(1L, new BigDecimal("5500.00"));
         verify(loanRepository).save(any(Loan.class));
-        verify(customerRepository).save(any(Customer.class));
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
+    @Test
+    @DisplayName("Should Create Valid Loans in Batch and Report Rejected Items")
+    void shouldCreateLoansInBatchAndReportRejectedItems() {
+        // Arrange
+        LoanRequest invalidInstallments = new LoanRequest(1L, BigDecimal.valueOf(1000), BigDecimal.valueOf(0.1), 5);
+        LoanRequest unknownCustomer = new LoanRequest(99L, BigDecimal.valueOf(1000), BigDecimal.valueOf(0.1), 6);
+        LoanRequest overLimit = new LoanRequest(1L, BigDecimal.valueOf(50000), BigDecimal.valueOf(0.1), 6);
+        when(customerRepository.reserveCredit(1L, new BigDecimal("5500.00"))).thenReturn(1);
+        when(customerRepository.reserveCredit(99L, new BigDecimal("1100.00"))).thenReturn(0);
+        when(customerRepository.reserveCredit(1L, new BigDecimal("55000.00"))).thenReturn(0);
+        when(customerRepository.existsById(99L)).thenReturn(false);
+        when(customerRepository.existsById(1L)).thenReturn(true);
+        when(customerRepository.getReferenceById(1L)).thenReturn(customer);
+        when(loanMapper.toLoanResponse(any())).thenReturn(new LoanResponse());
+
+        // Act
+        LoanBatchResponse response = loanService.createLoans(
+                List.of(loanRequest, invalidInstallments, unknownCustomer, overLimit));
+
+        // Assert
+        assertThat(response.getRequested()).isEqualTo(4);
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(LoanBatchItemResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(response.getResults()).extracting(LoanBatchItemResult::getCreated).containsExactly(true, false, false, false);
+        assertThat(response.getResults().get(1).getError()).isEqualTo("Invalid number of installments.");
+        assertThat(response.getResults().get(2).getError()).isEqualTo("Customer not found with ID: 99");
+        assertThat(response.getResults().get(3).getError()).contains("Insufficient credit limit");
+        verify(loanRepository).saveAll(argThat(loans -> ((List<Loan>) loans).size() == 1));
+        verify(entityManager).flush();
     }
 
     @Test
     @DisplayName("Should Throw Exception When Customer Not Found")
     void shouldThrowExceptionWhenCustomerNotFound() {
         // Arrange
-        when(customerRepository.findById(1L)).thenReturn(Optional.empty());
+        when(customerRepository.reserveCredit(eq(1L), any(BigDecimal.class))).thenReturn(0);
+        when(customerRepository.existsById(1L)).thenReturn(false);
 
         // Act & Assert
         assertThatThrownBy(() -> loanService.createLoan(loanRequest))
@@ -108,56 +166,101 @@ class LoanServiceImplTest {
     @DisplayName("Should Throw Exception for Insufficient Credit Limit")
     void shouldThrowExceptionForInsufficientCreditLimit() {
         // Arrange
-        customer.setCreditLimit(BigDecimal.valueOf(3000)); // Insufficient limit
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        // Guarded update matches no row: customer exists but the limit would be exceeded
+        when(customerRepository.reserveCredit(eq(1L), any(BigDecimal.class))).thenReturn(0);
+        when(customerRepository.existsById(1L)).thenReturn(true);
 
         // Act & Assert
         assertThatThrownBy(() -> loanService.createLoan(loanRequest))
                 .isInstanceOf(InsufficientCreditException.class)
                 .hasMessageContaining("Insufficient credit limit");
+        verify(loanRepository, never()).save(any(Loan.class));
     }
 
     @Test
     @DisplayName("Should List Loans Successfully")
     void shouldListLoansSuccessfully() {
         // Arrange
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
-        when(loanRepository.findByCustomerId(1L)).thenReturn(List.of(loan));
-        when(loanMapper.toLoanResponseList(anyList())).thenReturn(List.of(new LoanResponse()));
+        when(loanRepository.findPageByCustomerId(1L, 12, false, 0L, Limit.of(50))).thenReturn(List.of(loan));
+        when(loanRepository.findWithInstallmentsByIdIn(List.of(1L))).thenReturn(List.of(loan));
+        when(loanMapper.toLoanResponseList(List.of(loan))).thenReturn(List.of(new LoanResponse()));
 
         // Act
-        List<LoanResponse> loans = loanService.listLoans(1L, null, null);
+        List<LoanResponse> loans = loanService.listLoans(1L, 12, false, null, 50, true);
 
         // Assert
         assertThat(loans).isNotEmpty();
-        verify(loanRepository).findByCustomerId(1L);
+        verify(loanRepository).findPageByCustomerId(1L, 12, false, 0L, Limit.of(50));
+        verify(loanRepository).findWithInstallmentsByIdIn(List.of(1L));
+        verify(customerRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should List Loans Without Loading Installments")
+    void shouldListLoansWithoutLoadingInstallments() {
+        // Arrange
+        when(loanRepository.findPageByCustomerId(1L, null, null, 0L, Limit.of(50))).thenReturn(List.of(loan));
+        when(loanMapper.toLoanSummaryResponseList(List.of(loan))).thenReturn(List.of(new LoanResponse()));
+
+        // Act
+        List<LoanResponse> loans = loanService.listLoans(1L, null, null, null, 50, false);
+
+        // Assert
+        assertThat(loans).hasSize(1);
+        verify(loanRepository, never()).findWithInstallmentsByIdIn(any());
+        verify(loanMapper, never()).toLoanResponseList(anyList());
+    }
+
+    @Test
+    @DisplayName("Should Throw Exception When Listing Loans of Unknown Customer")
+    void shouldThrowExceptionWhenListingLoansOfUnknownCustomer() {
+        // Arrange
+        when(loanRepository.findPageByCustomerId(99L, null, null, 10L, Limit.of(20))).thenReturn(List.of());
+        when(customerRepository.existsById(99L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> loanService.listLoans(99L, null, null, 10L, 20, true))
+                .isInstanceOf(CustomerNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should Reject Page Size Out of Range")
+    void shouldRejectPageSizeOutOfRange() {
+        assertThatThrownBy(() -> loanService.listLoans(1L, null, null, null, 0, true))
+                .isInstanceOf(InvalidLoanParameterException.class);
+        assertThatThrownBy(() -> loanService.listLoans(1L, null, null, null, 501, true))
+                .isInstanceOf(InvalidLoanParameterException.class);
+        verifyNoInteractions(loanRepository);
     }
 
     @Test
     @DisplayName("Should List Installments for Loan Successfully")
     void shouldListInstallmentsForLoanSuccessfully() {
         // Arrange
-        loan.setInstallments(List.of(new LoanInstallment(1L, loan, 1, BigDecimal.valueOf(500), null, LocalDate.now().plusDays(30), null, false, InstallmentStatus.PENDING)));
-        when(loanRepository.findById(1L)).thenReturn(Optional.of(loan));
-        when(loanMapper.toInstallmentResponseList(anyList())).thenReturn(List.of(new InstallmentResponse()));
+        List<LoanInstallmentView> views = List.of(new LoanInstallmentView(1L, 1L, 1, Money.of(BigDecimal.valueOf(500)), null,
+                LocalDate.now().plusDays(30), null, false, InstallmentStatus.PENDING));
+        when(loanRepository.findInstallmentViewsByLoanId(1L)).thenReturn(views);
+        when(loanMapper.toInstallmentResponsesFromViews(views)).thenReturn(List.of(new InstallmentResponse()));
 
         // Act
         List<InstallmentResponse> installments = loanService.listInstallmentsForLoan(1L);
 
         // Assert
         assertThat(installments).hasSize(1);
-        verify(loanRepository).findById(1L);
+        verify(loanRepository, never()).findById(anyLong());
+        verify(loanRepository, never()).existsById(anyLong());
     }
 
     @Test
     @DisplayName("Should Throw Exception When Loan Not Found for Installments")
     void shouldThrowExceptionWhenLoanNotFoundForInstallments() {
         // Arrange
-        when(loanRepository.findById(1L)).thenReturn(Optional.empty());
+        when(loanRepository.findInstallmentViewsByLoanId(1L)).thenReturn(List.of());
+        when(loanRepository.existsById(1L)).thenReturn(false);
 
         // Act & Assert
         assertThatThrownBy(() -> loanService.listInstallmentsForLoan(1L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(LoanNotFoundException.class)
                 .hasMessageContaining("Loan not found");
     }
 
@@ -191,14 +294,17 @@ class LoanServiceImplTest {
     @DisplayName("Should Apply Discount for Early Payment - 5 Days Before Due Date")
     void shouldApplyDiscountForEarlyPayment() {
         LoanInstallment installment = createInstallment(BigDecimal.valueOf(500), LocalDate.now().plusDays(5));
-        loan.setInstallments(List.of(installment));
         when(loanRepository.findById(1L)).thenReturn(Optional.of(loan));
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(loanRepository.findPayableInstallmentsForUpdate(eq(1L), any(LocalDate.class))).thenReturn(List.of(installment));
+        when(loanRepository.existsUnpaidInstallmentDueAfter(eq(1L), any(LocalDate.class))).thenReturn(false);
 
         LoanPaymentRequest request = new LoanPaymentRequest(1L, BigDecimal.valueOf(500));
         LoanPaymentResponse response = loanService.payLoanInstallment(request);
 
         assertThat(response.getTotalPaid()).isEqualByComparingTo("497.50");
+        assertThat(response.getLoanFullyPaid()).isTrue();
+        verify(customerRepository).releaseCredit(1L, new BigDecimal("497.50"));
+        assertThat(meterRegistry.summary("loan.payment.installments").totalAmount()).isEqualTo(1);
     }
 
     // ✅ Pay on due date (no discount, no penalty)
@@ -206,9 +312,9 @@ class LoanServiceImplTest {
     @DisplayName("Should Not Apply Discount or Penalty for On-Time Payment")
     void shouldPayOnDueDateWithNoDiscountOrPenalty() {
         LoanInstallment installment = createInstallment(BigDecimal.valueOf(500), LocalDate.now());
-        loan.setInstallments(List.of(installment));
         when(loanRepository.findById(1L)).thenReturn(Optional.of(loan));
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(loanRepository.findPayableInstallmentsForUpdate(eq(1L), any(LocalDate.class))).thenReturn(List.of(installment));
+        when(loanRepository.existsUnpaidInstallmentDueAfter(eq(1L), any(LocalDate.class))).thenReturn(false);
 
         LoanPaymentRequest request = new LoanPaymentRequest(1L, BigDecimal.valueOf(500));
         LoanPaymentResponse response = loanService.payLoanInstallment(request);
@@ -216,6 +322,57 @@ class LoanServiceImplTest {
         assertThat(response.getTotalPaid()).isEqualByComparingTo("500.00");
     }
 
+    @Test
+    @DisplayName("Should Keep Loan Open When Installments Remain Beyond the Payment Window")
+    void shouldKeepLoanOpenWhenLaterInstallmentsRemain() {
+        // Arrange
+        LoanInstallment installment = createInstallment(BigDecimal.valueOf(500), LocalDate.now());
+        when(loanRepository.findById(1L)).thenReturn(Optional.of(loan));
+        when(loanRepository.findPayableInstallmentsForUpdate(1L, LocalDate.now(ZoneId.of("Europe/Istanbul")).plusMonths(3)))
+                .thenReturn(List.of(installment));
+        when(loanRepository.existsUnpaidInstallmentDueAfter(1L, LocalDate.now(ZoneId.of("Europe/Istanbul")).plusMonths(3)))
+                .thenReturn(true);
+
+        // Act
+        LoanPaymentResponse response = loanService.payLoanInstallment(new LoanPaymentRequest(1L, BigDecimal.valueOf(1000)));
+
+        // Assert
+        assertThat(response.getNumberOfInstallmentsPaid()).isEqualTo(1);
+        assertThat(response.getLoanFullyPaid()).isFalse();
+        assertThat(loan.getIsPaid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should Stop at the First Installment the Payment Does Not Cover")
+    void shouldStopAtFirstUncoveredInstallment() {
+        // Arrange
+        LoanInstallment first = createInstallment(BigDecimal.valueOf(500), LocalDate.now());
+        LoanInstallment second = createInstallment(BigDecimal.valueOf(500), LocalDate.now().plusMonths(1));
+        when(loanRepository.findById(1L)).thenReturn(Optional.of(loan));
+        when(loanRepository.findPayableInstallmentsForUpdate(eq(1L), any(LocalDate.class))).thenReturn(List.of(first, second));
+
+        // Act
+        LoanPaymentResponse response = loanService.payLoanInstallment(new LoanPaymentRequest(1L, BigDecimal.valueOf(700)));
+
+        // Assert
+        assertThat(response.getNumberOfInstallmentsPaid()).isEqualTo(1);
+        assertThat(response.getLoanFullyPaid()).isFalse();
+        assertThat(second.getIsPaid()).isFalse();
+        verify(loanRepository, never()).existsUnpaidInstallmentDueAfter(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should Throw Exception When Paying Unknown Loan")
+    void shouldThrowExceptionWhenPayingUnknownLoan() {
+        // Arrange
+        when(loanRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> loanService.payLoanInstallment(new LoanPaymentRequest(1L, BigDecimal.valueOf(500))))
+                .isInstanceOf(LoanNotFoundException.class);
+        verify(loanRepository, never()).findPayableInstallmentsForUpdate(anyLong(), any());
+    }
+
 
     // ✅ Calculate total loan amount (principal * (1 + interest))
     @Test
@@ -250,7 +407,7 @@ class LoanServiceImplTest {
     private LoanInstallment createInstallment(BigDecimal amount, LocalDate dueDate) {
         LoanInstallment installment = new LoanInstallment();
         installment.setInstallmentNumber(1);
-        installment.setAmount(amount);
+        installment.setAmount(Money.of(amount));
         installment.setDueDate(dueDate);
         installment.setIsPaid(false);
         installment.setStatus(InstallmentStatus.PENDING);
@@ -0,0 +1,85 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.exception.PasswordHashingRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor hashingExecutor;
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (hashingExecutor != null) {
+            hashingExecutor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should Reject Hashing When Threads and Queue Are Full")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Arrange
+        hashingExecutor = new PasswordHashingExecutor(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hashingExecutor.execute(() -> {
+            started.countDown();
+            return await(release);
+        }), callers);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> hashingExecutor.execute(() -> true), callers);
+        while (hashingExecutor.queueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> hashingExecutor.execute(() -> true))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(hashingExecutor.rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should Record Hash Count and Latency and Rethrow Task Failures")
+    void shouldRecordLatencyAndRethrowFailures() {
+        // Arrange
+        hashingExecutor = new PasswordHashingExecutor(2, 10);
+
+        // Act
+        String hash = hashingExecutor.execute(() -> "hash");
+
+        // Assert
+        assertThat(hash).isEqualTo("hash");
+        assertThatThrownBy(() -> hashingExecutor.execute(() -> {
+            throw new IllegalArgumentException("bad hash");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("bad hash");
+        assertThat(hashingExecutor.hashCount()).isEqualTo(2);
+        assertThat(hashingExecutor.totalHashNanos()).isPositive();
+        assertThat(hashingExecutor.maxHashNanos()).isPositive();
+        assertThat(hashingExecutor.queueDepth()).isZero();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.entity.Role;
+import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.enums.RoleEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheInvalidatorTest {
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private UnknownUserCache unknownUserCache;
+
+    private PrincipalCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("principalCache", principalCache);
+        beanFactory.addBean("unknownUserCache", unknownUserCache);
+        invalidator = new PrincipalCacheInvalidator(
+                beanFactory.getBeanProvider(PrincipalCache.class), beanFactory.getBeanProvider(UnknownUserCache.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should Evict a Changed User Only Once the Transaction Commits")
+    void shouldEvictUserAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        User user = new User().setId(7).setEmail("u@a.com");
+
+        // Act
+        invalidator.onChange(user);
+        verify(principalCache, never()).invalidateUser(7, "u@a.com");
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        // Assert
+        verify(principalCache).invalidateUser(7, "u@a.com");
+        verify(unknownUserCache).forget("u@a.com");
+    }
+
+    @Test
+    @DisplayName("Should Keep Cached Principals When the Transaction Rolls Back")
+    void shouldKeepPrincipalsOnRollback() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        invalidator.onChange(new Role().setName(RoleEnum.CUSTOMER));
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verify(principalCache, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should Evict Right Away Outside a Transaction")
+    void shouldEvictImmediatelyWithoutTransaction() {
+        // Act
+        invalidator.onChange(new Role().setName(RoleEnum.ADMIN));
+
+        // Assert
+        verify(principalCache).invalidateAll();
+    }
+}
@@ -0,0 +1,108 @@
+package com.inghub.loanapi.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(100, TTL_MILLIS, nanos::get);
+    }
+
+    @Test
+    @DisplayName("Should Load a Principal Once per Token and Record Hits")
+    void shouldLoadOncePerToken() {
+        // Arrange
+        Claims claims = claims("a@a.com", TimeUnit.HOURS.toMillis(1));
+
+        // Act
+        UserDetails first = principalCache.get(claims, () -> load("a@a.com"));
+        UserDetails second = principalCache.get(claims, () -> load("a@a.com"));
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(principalCache.stats().hitCount()).isEqualTo(1);
+        assertThat(principalCache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should Reload a Principal After the TTL")
+    void shouldReloadAfterTtl() {
+        // Arrange
+        Claims claims = claims("a@a.com", TimeUnit.HOURS.toMillis(1));
+        principalCache.get(claims, () -> load("a@a.com"));
+
+        // Act
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MILLIS + 1));
+        principalCache.get(claims, () -> load("a@a.com"));
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should Not Keep a Principal Past Its Token Expiry")
+    void shouldExpireWithToken() {
+        // Arrange
+        Claims claims = claims("a@a.com", TimeUnit.SECONDS.toMillis(10));
+        principalCache.get(claims, () -> load("a@a.com"));
+
+        // Act
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        principalCache.get(claims, () -> load("a@a.com"));
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should Evict Only the Changed User on Invalidation")
+    void shouldInvalidateChangedUserOnly() {
+        // Arrange
+        Claims admin = claims("a@a.com", TimeUnit.HOURS.toMillis(1));
+        Claims customer = claims("u@a.com", TimeUnit.HOURS.toMillis(1));
+        principalCache.get(admin, () -> load("a@a.com"));
+        principalCache.get(customer, () -> load("u@a.com"));
+
+        // Act
+        principalCache.invalidateUser(null, "a@a.com");
+        principalCache.get(admin, () -> load("a@a.com"));
+        principalCache.get(customer, () -> load("u@a.com"));
+
+        // Assert
+        assertThat(loads).hasValue(3);
+    }
+
+    private UserDetails load(String username) {
+        loads.incrementAndGet();
+        return User.builder().username(username).password("password").roles("ADMIN").build();
+    }
+
+    private static Claims claims(String subject, long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.claims()
+                .setSubject(subject)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiresInMillis));
+    }
+}
@@ -0,0 +1,210 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.dto.CustomerResponse;
+import com.inghub.loanapi.dto.LoanPaymentRequest;
+import com.inghub.loanapi.dto.LoanPaymentResponse;
+import com.inghub.loanapi.dto.LoanResponse;
+import com.inghub.loanapi.dto.mapper.CustomerMapperImpl;
+import com.inghub.loanapi.dto.mapper.LoanMapperImpl;
+import com.inghub.loanapi.entity.Customer;
+import com.inghub.loanapi.entity.Loan;
+import com.inghub.loanapi.entity.LoanInstallment;
+import com.inghub.loanapi.entity.Role;
+import com.inghub.loanapi.entity.User;
+import com.inghub.loanapi.enums.InstallmentStatus;
+import com.inghub.loanapi.enums.LoanStatus;
+import com.inghub.loanapi.enums.RoleEnum;
+import com.inghub.loanapi.money.Money;
+import com.inghub.loanapi.observability.RequestSqlStatistics;
+import com.inghub.loanapi.observability.SqlQueryCounter;
+import com.inghub.loanapi.service.impl.CustomerServiceImpl;
+import com.inghub.loanapi.service.impl.LoanServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements each service call sends, so an N+1 shows up as a failing test.
+ */
+@DataJpaTest(properties = {
+        SqlQueryCounter.STATEMENT_INSPECTOR_PROPERTY,
+        SqlQueryCounter.GENERATE_STATISTICS_PROPERTY,
+        SqlQueryCounter.STATISTICS_FACTORY_PROPERTY
+})
+@Import({LoanServiceImpl.class, CustomerServiceImpl.class, LoanMapperImpl.class, CustomerMapperImpl.class,
+        ServiceQueryCountTest.Infrastructure.class})
+class ServiceQueryCountTest {
+
+    private static final int CUSTOMERS = 3;
+    private static final int LOANS = 4;
+    private static final int INSTALLMENTS = 6;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long customerId;
+    private Long loanId;
+
+    @TestConfiguration
+    static class Infrastructure {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObservationRegistry observationRegistry() {
+            return ObservationRegistry.NOOP;
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role().setName(RoleEnum.CUSTOMER).setDescription("Customer");
+        entityManager.persist(role);
+
+        for (int c = 0; c < CUSTOMERS; c++) {
+            User user = new User().setFullName("John Doe").setEmail("john" + c + "@test.com").setPassword("x").setRole(role);
+            entityManager.persist(user);
+
+            Customer customer = new Customer();
+            customer.setName("John");
+            customer.setSurname("Doe");
+            customer.setCreditLimit(BigDecimal.valueOf(100000));
+            customer.setUsedCreditLimit(BigDecimal.valueOf(LOANS * 1320));
+            customer.setUser(user);
+            entityManager.persist(customer);
+
+            for (int l = 0; l < LOANS; l++) {
+                Loan loan = loanWithInstallments(customer);
+                entityManager.persist(loan);
+                loanId = loan.getId();
+            }
+            customerId = customer.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should List Loans With Installments in Two Statements")
+    void shouldListLoansWithInstallmentsInTwoStatements() {
+        // Act
+        List<LoanResponse> loans = SqlQueryCounter.assertStatements(2,
+                () -> loanService.listLoans(customerId, null, null, null, 50, true));
+
+        // Assert
+        assertThat(loans).hasSize(LOANS);
+        assertThat(loans).allSatisfy(loan -> assertThat(loan.getInstallments()).hasSize(INSTALLMENTS));
+    }
+
+    @Test
+    @DisplayName("Should List Loans Without Installments in One Statement")
+    void shouldListLoansWithoutInstallmentsInOneStatement() {
+        // Act
+        List<LoanResponse> loans = SqlQueryCounter.assertStatements(1,
+                () -> loanService.listLoans(customerId, null, null, null, 50, false));
+
+        // Assert
+        assertThat(loans).hasSize(LOANS);
+    }
+
+    @Test
+    @DisplayName("Should List Installments in One Statement Without Loading Entities")
+    void shouldListInstallmentsInOneStatement() {
+        // Act
+        RequestSqlStatistics statistics = SqlQueryCounter.count(() ->
+                assertThat(loanService.listInstallmentsForLoan(loanId)).hasSize(INSTALLMENTS));
+
+        // Assert
+        assertThat(statistics.statements()).isEqualTo(1);
+        assertThat(statistics.rows()).isEqualTo(INSTALLMENTS);
+        assertThat(statistics.entityLoads()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should Pay Installments With a Fixed Number of Statements")
+    void shouldPayInstallmentsWithFixedNumberOfStatements() {
+        // Arrange
+        LoanPaymentRequest request = LoanPaymentRequest.builder()
+                .loanId(loanId)
+                .paymentAmount(BigDecimal.valueOf(440))
+                .build();
+
+        // Act
+        RequestSqlStatistics statistics = SqlQueryCounter.count(() -> {
+            LoanPaymentResponse response = loanService.payLoanInstallment(request);
+            assertThat(response.getNumberOfInstallmentsPaid()).isEqualTo(2);
+            entityManager.flush();
+        });
+
+        // Assert: loan lookup, installment lock, batched installment update, credit release
+        assertThat(statistics.statements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should List All Customers Without a Query per Customer")
+    void shouldListAllCustomersWithoutQueryPerCustomer() {
+        // Act
+        RequestSqlStatistics statistics = SqlQueryCounter.count(() -> {
+            List<CustomerResponse> customers = customerService.listAllCustomers();
+            assertThat(customers).hasSize(CUSTOMERS);
+            assertThat(customers).allSatisfy(customer -> assertThat(customer.getLoans()).hasSize(LOANS));
+        });
+
+        // Assert
+        assertThat(statistics.statements()).isEqualTo(1);
+        assertThat(statistics.entityLoads()).isEqualTo(CUSTOMERS * (2 + LOANS * (1 + INSTALLMENTS)));
+    }
+
+    private static Loan loanWithInstallments(Customer customer) {
+        Loan loan = new Loan();
+        loan.setCustomer(customer);
+        loan.setLoanAmount(Money.of(BigDecimal.valueOf(1200)));
+        loan.setTotalAmount(Money.of(BigDecimal.valueOf(1320)));
+        loan.setInterestRate(BigDecimal.valueOf(0.1));
+        loan.setNumberOfInstallments(INSTALLMENTS);
+        loan.setIsPaid(false);
+        loan.setStatus(LoanStatus.ACTIVE);
+
+        for (int i = 1; i <= INSTALLMENTS; i++) {
+            LoanInstallment installment = new LoanInstallment();
+            installment.setLoan(loan);
+            installment.setInstallmentNumber(i);
+            installment.setAmount(Money.of(BigDecimal.valueOf(220)));
+            installment.setDueDate(LocalDate.now().plusMonths(i));
+            installment.setIsPaid(false);
+            installment.setStatus(InstallmentStatus.PENDING);
+            loan.getInstallments().add(installment);
+        }
+        return loan;
+    }
+}
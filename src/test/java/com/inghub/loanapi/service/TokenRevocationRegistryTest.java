@@ -0,0 +1,131 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.entity.RevokedToken;
+import com.inghub.loanapi.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationRegistryTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Duration OVERLAP = Duration.ofSeconds(60);
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationRegistry = new TokenRevocationRegistry(revokedTokenRepository, 100, OVERLAP, Clock.fixed(NOW, ZoneOffset.UTC));
+        when(revokedTokenRepository.findActiveRevokedSince(Instant.EPOCH, NOW)).thenReturn(List.of(revoked(1L, "revoked-1", 1)));
+        tokenRevocationRegistry.load();
+    }
+
+    @Test
+    @DisplayName("Should Reject Revoked Tokens and Pass Others Without a Database Lookup")
+    void shouldCheckRevocationInMemory() {
+        // Act & Assert
+        assertThat(tokenRevocationRegistry.isRevoked(claims("revoked-1"))).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(claims(UUID.randomUUID().toString()))).isFalse();
+        assertThat(tokenRevocationRegistry.isRevoked(claims(null))).isFalse();
+        verify(revokedTokenRepository, times(1)).findActiveRevokedSince(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should Refresh Only Revocations Made Within the Overlap of the Last One Seen")
+    void shouldRefreshIncrementally() {
+        // Arrange
+        when(revokedTokenRepository.findActiveRevokedSince(NOW.minus(OVERLAP), NOW))
+                .thenReturn(List.of(revoked(1L, "revoked-1", 1), revoked(5L, "revoked-5", 1)));
+
+        // Act
+        tokenRevocationRegistry.refresh();
+
+        // Assert
+        assertThat(tokenRevocationRegistry.isRevoked(claims("revoked-5"))).isTrue();
+        assertThat(tokenRevocationRegistry.size()).isEqualTo(2);
+        verify(revokedTokenRepository).findActiveRevokedSince(eq(NOW.minus(OVERLAP)), any());
+    }
+
+    @Test
+    @DisplayName("Should Pick Up a Revocation Committed After a Later One Was Already Seen")
+    void shouldPickUpRevocationsCommittedOutOfOrder() {
+        // Arrange
+        RevokedToken committedFirst = revoked(7L, "revoked-7", 1);
+        RevokedToken committedLate = new RevokedToken(6L, "revoked-6", NOW.plus(1, ChronoUnit.HOURS), NOW.minusSeconds(5));
+        when(revokedTokenRepository.findActiveRevokedSince(NOW.minus(OVERLAP), NOW))
+                .thenReturn(List.of(revoked(1L, "revoked-1", 1), committedFirst))
+                .thenReturn(List.of(revoked(1L, "revoked-1", 1), committedLate, committedFirst));
+        tokenRevocationRegistry.refresh();
+
+        // Act
+        tokenRevocationRegistry.refresh();
+
+        // Assert
+        assertThat(tokenRevocationRegistry.isRevoked(claims("revoked-6"))).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(claims("revoked-7"))).isTrue();
+        assertThat(tokenRevocationRegistry.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should Forget Expired Revocations and Keep Live Ones After a Purge")
+    void shouldPurgeExpiredRevocations() {
+        // Arrange
+        tokenRevocationRegistry.add("expired", NOW.minusSeconds(1));
+        tokenRevocationRegistry.add("live", NOW.plusSeconds(60));
+
+        // Act
+        tokenRevocationRegistry.purgeExpired();
+
+        // Assert
+        assertThat(tokenRevocationRegistry.isRevoked(claims("expired"))).isFalse();
+        assertThat(tokenRevocationRegistry.isRevoked(claims("live"))).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(claims("revoked-1"))).isTrue();
+        verify(revokedTokenRepository).deleteExpired(NOW);
+    }
+
+    @Test
+    @DisplayName("Should Keep the Bloom Filter False Positive Rate Low")
+    void shouldKeepFalsePositiveRateLow() {
+        // Arrange
+        TokenBloomFilter filter = new TokenBloomFilter(1000, 0.001);
+        IntStream.range(0, 1000).forEach(i -> filter.put("revoked-" + i));
+
+        // Act
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("live-" + i)).count();
+
+        // Assert
+        assertThat(IntStream.range(0, 1000).allMatch(i -> filter.mightContain("revoked-" + i))).isTrue();
+        assertThat(falsePositives).isLessThan(500);
+    }
+
+    private static RevokedToken revoked(Long id, String tokenId, int hoursLeft) {
+        return new RevokedToken(id, tokenId, NOW.plus(hoursLeft, ChronoUnit.HOURS), NOW);
+    }
+
+    private static Claims claims(String tokenId) {
+        return Jwts.claims().setSubject("a@a.com").setId(tokenId);
+    }
+}
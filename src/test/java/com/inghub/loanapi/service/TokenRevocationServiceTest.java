@@ -0,0 +1,66 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.entity.RevokedToken;
+import com.inghub.loanapi.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final String TOKEN_ID = "3f1c2b9e-5a7d-4c1e-9b2a-6d8e0f4a1c3b";
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, tokenRevocationRegistry, 86_400_000L);
+    }
+
+    @Test
+    @DisplayName("Should Treat a Concurrent Revocation of the Same Token as Already Revoked")
+    void shouldIgnoreConcurrentDuplicateRevocation() {
+        // Arrange
+        when(revokedTokenRepository.existsByTokenId(TOKEN_ID)).thenReturn(false, true);
+        when(revokedTokenRepository.save(any(RevokedToken.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_revoked_tokens_token_id"));
+
+        // Act
+        tokenRevocationService.revoke(TOKEN_ID);
+
+        // Assert
+        verify(tokenRevocationRegistry).add(eq(TOKEN_ID), any());
+    }
+
+    @Test
+    @DisplayName("Should Rethrow Integrity Violations Other Than a Duplicate Token")
+    void shouldRethrowOtherIntegrityViolations() {
+        // Arrange
+        when(revokedTokenRepository.existsByTokenId(TOKEN_ID)).thenReturn(false);
+        when(revokedTokenRepository.save(any(RevokedToken.class)))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> tokenRevocationService.revoke(TOKEN_ID))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(tokenRevocationRegistry, never()).add(any(), any());
+    }
+}
@@ -0,0 +1,87 @@
+package com.inghub.loanapi.service;
+
+import com.inghub.loanapi.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findRevokedTokenVersions()).thenReturn(List.<Object[]>of(new Object[]{1, 2}));
+        tokenVersionRegistry.load();
+    }
+
+    @Test
+    @DisplayName("Should Reject Tokens Issued Before the Last Revocation")
+    void shouldRejectStaleTokens() {
+        assertThat(tokenVersionRegistry.isCurrent(claims(1, 1))).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(claims(1, 2))).isTrue();
+        assertThat(tokenVersionRegistry.isCurrent(claims(2, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should Apply Revocations Made at Runtime")
+    void shouldApplyRuntimeRevocations() {
+        // Act
+        tokenVersionRegistry.update(2, 1);
+
+        // Assert
+        assertThat(tokenVersionRegistry.isCurrent(claims(2, 0))).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(claims(2, 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should Pick Up Revocations Made by Other Instances on Refresh")
+    void shouldPickUpRevocationsFromOtherInstances() {
+        // Arrange
+        when(userRepository.findRevokedTokenVersions()).thenReturn(List.<Object[]>of(new Object[]{1, 2}, new Object[]{2, 1}));
+
+        // Act
+        tokenVersionRegistry.refresh();
+
+        // Assert
+        assertThat(tokenVersionRegistry.isCurrent(claims(2, 0))).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(claims(2, 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should Treat Tokens Without a Version as Revoked Once the User Was Revoked")
+    void shouldRejectUnversionedTokensOfRevokedUsers() {
+        assertThat(tokenVersionRegistry.isCurrent(1, 0)).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(2, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should Let Tokens Without User Claims Through to the Database Principal")
+    void shouldPassTokensWithoutUserClaims() {
+        assertThat(tokenVersionRegistry.isCurrent(Jwts.claims().setSubject("a@a.com"))).isTrue();
+    }
+
+    private static Claims claims(int userId, int tokenVersion) {
+        Claims claims = Jwts.claims().setSubject("user" + userId + "@a.com");
+        claims.put(JwtPrincipal.USER_ID_CLAIM, userId);
+        claims.put(JwtPrincipal.ROLE_CLAIM, "CUSTOMER");
+        claims.put(JwtPrincipal.TOKEN_VERSION_CLAIM, tokenVersion);
+        return claims;
+    }
+}